@@ -0,0 +1,106 @@
+package artemmindrov.graphs.benchmarks;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic graph generators used by the benchmarks. Vertices are the integers {@code [0, size)}, weights are
+ * uniformly distributed in {@code [1, MAX_WEIGHT]}.
+ */
+public enum GraphShape {
+    /**
+     * Erdos-Renyi style graph with {@code DEGREE} random out-edges per vertex
+     */
+    RANDOM {
+        @Override
+        List<Edge<Integer>> edges(int size, Random random) {
+            List<Edge<Integer>> edges = new ArrayList<>(size * DEGREE);
+
+            for (int v = 0; v < size; v++) {
+                for (int i = 0; i < DEGREE; i++) {
+                    edges.add(Edge.of(v, random.nextInt(size), weight(random)));
+                }
+            }
+
+            return edges;
+        }
+    },
+    /**
+     * Square grid with edges between horizontal and vertical neighbours, road network-like
+     */
+    GRID {
+        @Override
+        List<Edge<Integer>> edges(int size, Random random) {
+            int side = (int) Math.ceil(Math.sqrt(size));
+            List<Edge<Integer>> edges = new ArrayList<>(size * 4);
+
+            for (int v = 0; v < size; v++) {
+                int right = v + 1, down = v + side;
+
+                if (right % side != 0 && right < size) {
+                    edges.add(Edge.of(v, right, weight(random)));
+                    edges.add(Edge.of(right, v, weight(random)));
+                }
+
+                if (down < size) {
+                    edges.add(Edge.of(v, down, weight(random)));
+                    edges.add(Edge.of(down, v, weight(random)));
+                }
+            }
+
+            return edges;
+        }
+    },
+    /**
+     * Barabasi-Albert preferential attachment graph, social network-like
+     */
+    SCALE_FREE {
+        @Override
+        List<Edge<Integer>> edges(int size, Random random) {
+            List<Edge<Integer>> edges = new ArrayList<>(size * DEGREE * 2);
+            int[] endpoints = new int[size * DEGREE * 2];
+            int count = 0;
+
+            for (int v = 1; v < size; v++) {
+                for (int i = 0; i < Math.min(v, DEGREE); i++) {
+                    int target = count == 0 ? 0 : endpoints[random.nextInt(count)];
+                    edges.add(Edge.of(v, target, weight(random)));
+                    edges.add(Edge.of(target, v, weight(random)));
+                    endpoints[count++] = v;
+                    endpoints[count++] = target;
+                }
+            }
+
+            return edges;
+        }
+    };
+
+    static final int DEGREE = 4, MAX_WEIGHT = 100;
+
+    abstract List<Edge<Integer>> edges(int size, Random random);
+
+    /**
+     * @param size number of vertices
+     * @param directed whether the graph should be directed
+     * @param seed random seed, generated graphs are reproducible for the same seed
+     * @return a weighted graph of the specified shape
+     */
+    Graph<Integer> build(int size, boolean directed, long seed) {
+        Graph<Integer> graph = Graph.<Integer>builder().directed(directed).build();
+
+        for (int v = 0; v < size; v++) {
+            graph.addVertex(v);
+        }
+
+        graph.addEdges(edges(size, new Random(seed)));
+        return graph;
+    }
+
+    private static long weight(Random random) {
+        return 1 + random.nextInt(MAX_WEIGHT);
+    }
+}
@@ -0,0 +1,109 @@
+package artemmindrov.graphs.benchmarks;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures vertex and edge insertion throughput, single- and multi-threaded, for directed and undirected graphs
+ * with on-heap and off-heap edge storage
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class InsertionBenchmark {
+    @Param({"100000"})
+    public int size;
+
+    @Param({"true", "false"})
+    public boolean directed;
+
+    @Param({"false", "true"})
+    public boolean offHeap;
+
+    private Graph<Integer> graph;
+    private List<Edge<Integer>> edges;
+    private final AtomicInteger nextVertex = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void generate() {
+        edges = GraphShape.RANDOM.edges(size, new Random(42));
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        graph = Graph.<Integer>builder().directed(directed).offHeap(offHeap).build();
+
+        for (int v = 0; v < size; v++) {
+            graph.addVertex(v);
+        }
+
+        nextVertex.set(size);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean addVertex() {
+        return graph.addVertex(nextVertex.getAndIncrement());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean addVertexConcurrently() {
+        return graph.addVertex(nextVertex.getAndIncrement());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean addEdge() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return graph.addEdge(random.nextInt(size), random.nextInt(size), random.nextInt(GraphShape.MAX_WEIGHT));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean addEdgeConcurrently() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return graph.addEdge(random.nextInt(size), random.nextInt(size), random.nextInt(GraphShape.MAX_WEIGHT));
+    }
+
+    /**
+     * Loads a fresh graph of {@code size * DEGREE} edges edge by edge
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Graph<Integer> loadEdgeByEdge() {
+        for (Edge<Integer> e : edges) {
+            graph.addEdge(e.source(), e.sink(), e.weight());
+        }
+
+        return graph;
+    }
+
+    /**
+     * Loads a fresh graph of {@code size * DEGREE} edges in one {@link Graph#addEdges} batch
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Graph<Integer> loadInBulk() {
+        graph.addEdges(edges);
+        return graph;
+    }
+}
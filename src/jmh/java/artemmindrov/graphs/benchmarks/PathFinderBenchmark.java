@@ -0,0 +1,91 @@
+package artemmindrov.graphs.benchmarks;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import artemmindrov.graphs.pathfinders.BellmanFord;
+import artemmindrov.graphs.pathfinders.BidirectionalBreadthFirst;
+import artemmindrov.graphs.pathfinders.BidirectionalDijkstra;
+import artemmindrov.graphs.pathfinders.BreadthFirst;
+import artemmindrov.graphs.pathfinders.DeltaStepping;
+import artemmindrov.graphs.pathfinders.Dijkstra;
+import artemmindrov.graphs.pathfinders.PathFinder;
+import artemmindrov.graphs.pathfinders.Spfa;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures point-to-point query latency of the path finders on synthetic graphs. Queries cycle through a fixed,
+ * seeded set of vertex pairs so that all finders answer the same queries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PathFinderBenchmark {
+    private static final int QUERIES = 1024;
+
+    /**
+     * Path finders under comparison, new ones should be registered here. Note that the breadth-first finders
+     * ignore weights, so their paths are not comparable with the others'
+     */
+    public enum Finder {
+        BELLMAN_FORD(BellmanFord::new),
+        BIDIRECTIONAL_BREADTH_FIRST(BidirectionalBreadthFirst::new),
+        BIDIRECTIONAL_DIJKSTRA(BidirectionalDijkstra::new),
+        BREADTH_FIRST(BreadthFirst::new),
+        DELTA_STEPPING(() -> new DeltaStepping<>(GraphShape.MAX_WEIGHT / GraphShape.DEGREE)),
+        DIJKSTRA(Dijkstra::new),
+        SPFA(Spfa::new);
+
+        private final Supplier<PathFinder<Integer>> factory;
+
+        Finder(Supplier<PathFinder<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    @Param({"RANDOM", "GRID", "SCALE_FREE"})
+    public GraphShape shape;
+
+    @Param({"true"})
+    public boolean directed;
+
+    @Param({"BELLMAN_FORD", "DIJKSTRA", "BIDIRECTIONAL_DIJKSTRA", "DELTA_STEPPING", "SPFA"})
+    public Finder finder;
+
+    private Graph<Integer> graph;
+    private PathFinder<Integer> pathFinder;
+    private final int[] sources = new int[QUERIES], targets = new int[QUERIES];
+    private int query;
+
+    @Setup
+    public void setup() {
+        graph = shape.build(size, directed, 42);
+        pathFinder = finder.factory.get();
+        Random random = new Random(7);
+
+        for (int i = 0; i < QUERIES; i++) {
+            sources[i] = random.nextInt(size);
+            targets[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public List<Edge<Integer>> getPath() {
+        int i = query++ & (QUERIES - 1);
+        return graph.getPath(pathFinder, sources[i], targets[i]);
+    }
+}
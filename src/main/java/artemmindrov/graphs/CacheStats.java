@@ -0,0 +1,49 @@
+package artemmindrov.graphs;
+
+/**
+ * A point-in-time view of a graph's path cache statistics, see {@link Graph.Builder#pathCache(int, long, java.util.concurrent.TimeUnit)}
+ */
+public final class CacheStats {
+    private final long hits, misses, evictions, invalidations;
+
+    CacheStats(long hits, long misses, long evictions, long invalidations) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+    }
+
+    /**
+     * @return number of queries answered from the cache
+     */
+    public long hits() { return hits; }
+
+    /**
+     * @return number of queries that had to be computed, including those which found a stale entry
+     */
+    public long misses() { return misses; }
+
+    /**
+     * @return number of entries dropped because the cache was full or their time to live had passed
+     */
+    public long evictions() { return evictions; }
+
+    /**
+     * @return number of entries dropped because the graph had been modified since they were computed
+     */
+    public long invalidations() { return invalidations; }
+
+    /**
+     * @return ratio of hits to all queries, 0 if there were none
+     */
+    public double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions
+                + ", invalidations=" + invalidations + "}";
+    }
+}
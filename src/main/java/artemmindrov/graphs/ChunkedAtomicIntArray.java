@@ -0,0 +1,55 @@
+package artemmindrov.graphs;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * An unbounded array of ints supporting atomic operations, indexed by vertex or edge ids. Storage is allocated in
+ * fixed size chunks on first write, so growing never copies existing elements. Elements that have never been
+ * written read as 0.
+ */
+final class ChunkedAtomicIntArray {
+    private static final int SHIFT = 14, CHUNK_SIZE = 1 << SHIFT, MASK = CHUNK_SIZE - 1;
+    private volatile AtomicIntegerArray[] chunks = new AtomicIntegerArray[16];
+
+    int get(int index) {
+        AtomicIntegerArray[] current = chunks;
+        int chunk = index >>> SHIFT;
+        return chunk < current.length && current[chunk] != null ? current[chunk].get(index & MASK) : 0;
+    }
+
+    void set(int index, int value) {
+        chunk(index).set(index & MASK, value);
+    }
+
+    boolean compareAndSet(int index, int expected, int value) {
+        return chunk(index).compareAndSet(index & MASK, expected, value);
+    }
+
+    private AtomicIntegerArray chunk(int index) {
+        AtomicIntegerArray[] current = chunks;
+        int chunk = index >>> SHIFT;
+
+        if (chunk < current.length && current[chunk] != null) {
+            return current[chunk];
+        }
+
+        return allocate(chunk);
+    }
+
+    private synchronized AtomicIntegerArray allocate(int chunk) {
+        AtomicIntegerArray[] current = chunks;
+
+        if (chunk >= current.length) {
+            current = Arrays.copyOf(current, Math.max(current.length * 2, chunk + 1));
+        }
+
+        if (current[chunk] == null) {
+            current[chunk] = new AtomicIntegerArray(CHUNK_SIZE);
+        }
+
+        // volatile write publishes the new chunk
+        chunks = current;
+        return current[chunk];
+    }
+}
@@ -0,0 +1,673 @@
+package artemmindrov.graphs;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Tracks which vertices can reach which, so that queries for unreachable pairs can be answered without a search.
+ * Both structures are maintained incrementally as edges are added:
+ * <ul>
+ *     <li>connected components, in a concurrent union-find structure, which is exact for undirected graphs</li>
+ *     <li>for directed graphs, strongly connected components along with a topological order of them, maintained
+ *     with the <a href="https://doi.org/10.1145/1187436.1210590">Pearce-Kelly</a> algorithm extended to merge the
+ *     components on a cycle an edge closes. A vertex can only reach vertices of its own component or of later
+ *     ones, so a component's position in the order rules out reaching all earlier ones in constant time</li>
+ * </ul>
+ * Edges consistent with the current order, which are the vast majority once the order has settled, are handled
+ * without locking. Edges violating it reorder the components between their ends under a write lock, searching them
+ * through the edges of their members in the edge container, so that no state is kept per edge.
+ * <p>
+ * A reorder may take time linear in the size of the graph, which is what happens to most of them while a giant
+ * component forms in a random graph. Reorders are thus limited to a number of edge scans proportional to the size of
+ * the graph and the number of edges added since the order was built. Once they exceed it, the order is dropped,
+ * leaving directed pairs to searches, until the graph grows by a fraction of its size and the order is rebuilt from
+ * scratch with Tarjan's algorithm. Either way the cost of an insert stays constant in amortized terms.
+ * @param <V> user defined vertex type
+ */
+final class Connectivity<V> {
+    // edge scans reorders may take per edge added since the order was built, on top of the graph's size then
+    private static final int SCANS_PER_EDGE = 4;
+    // a dropped order is rebuilt once the graph has grown by this fraction of its size since it was built
+    private static final int REBUILD_FRACTION = 4;
+    private static final int POSITIONS_PER_MEMBER = 16;
+
+    private final VertexIndex<V> vertices;
+    private final EdgeContainer<V> edges;
+    private final boolean isDirected;
+    private final UnionFind connected = new UnionFind();
+    // the rest is only maintained for directed graphs
+    private final StampedLock lock = new StampedLock();
+    private final LongAdder added = new LongAdder();
+    // null while dropped, replaced as a whole when rebuilt
+    private volatile Condensation condensation = new Condensation(16);
+    // count of added edges to rebuild a dropped order at
+    private volatile long rebuildAt;
+    // writer state: the graph's size and the count of added edges when the order was built, edge scans since, visit
+    // marks of both reorder searches and components found by the current one
+    private long builtSize, builtAdded, scans;
+    private int[] forwardMarks = new int[16], backwardMarks = new int[16], reached = new int[16];
+    private int epoch, reachedCount;
+
+    Connectivity(VertexIndex<V> vertices, EdgeContainer<V> edges) {
+        this.vertices = vertices;
+        this.edges = edges;
+        this.isDirected = edges.isDirected();
+    }
+
+    /**
+     * Records an edge, which should have been added to the edge container. Safe to call concurrently.
+     */
+    void connect(int u, int v) {
+        connected.union(u, v);
+
+        if (!isDirected) {
+            return;
+        }
+
+        added.increment();
+        // the edge is already in the container, so any reorder or rebuild from now on respects it, and one running
+        // concurrently is detected by validation
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0 && isSettled(condensation, u, v) && lock.validate(stamp)) {
+            return;
+        }
+
+        stamp = lock.writeLock();
+
+        try {
+            Condensation c = condensation;
+
+            if (c != null && !c.isOrdered(u, v)) {
+                reorder(c, c.components.find(u), c.components.find(v));
+            }
+
+            if (condensation == null && added.sum() >= rebuildAt) {
+                rebuild();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return true if an edge from {@code u} to {@code v} needs no changes to the condensation
+     */
+    private boolean isSettled(Condensation c, int u, int v) {
+        return c == null ? added.sum() < rebuildAt : c.isOrdered(u, v);
+    }
+
+    /**
+     * Restores the topological order after an edge from {@code cu} to {@code cv} which violates it. Components
+     * within the positions of the two, reachable from {@code cv} or reaching {@code cu}, are moved after or before
+     * each other respectively, and those which are both are merged as they lie on a cycle through the new edge.
+     * The moved components take the positions they had before, so the rest of the order stays valid.
+     */
+    private void reorder(Condensation c, int cu, int cv) {
+        int lower = c.position(cv), upper = c.position(cu);
+        int size = vertices.size();
+
+        if (forwardMarks.length < size) {
+            forwardMarks = Arrays.copyOf(forwardMarks, Math.max(size, forwardMarks.length * 2));
+            backwardMarks = Arrays.copyOf(backwardMarks, forwardMarks.length);
+        }
+
+        c.ensureCapacity(size);
+        epoch++;
+        long allowed = builtSize + SCANS_PER_EDGE * (added.sum() - builtAdded);
+        int[] reached = reach(c, cv, cu, lower, upper, true, allowed);
+        int[] reaching = reached == null ? null : reach(c, cu, cv, lower, upper, false, allowed);
+
+        if (reaching == null) {
+            condensation = null;
+            rebuildAt = builtAdded + builtSize / REBUILD_FRACTION;
+            return;
+        }
+
+        // components to move before and after each other, keyed by position in the upper half to sort by it
+        long[] before = new long[reaching.length], after = new long[reached.length];
+        int[] pool = new int[reached.length + reaching.length], cycle = new int[reaching.length];
+        int beforeCount = 0, afterCount = 0, poolCount = 0, cycleCount = 0;
+
+        for (int r : reaching) {
+            if (forwardMarks[r] == epoch) {
+                cycle[cycleCount++] = r;
+            } else {
+                before[beforeCount++] = (long) c.positions.get(r) << 32 | r;
+            }
+
+            pool[poolCount++] = c.positions.get(r);
+        }
+
+        for (int r : reached) {
+            if (backwardMarks[r] != epoch) {
+                after[afterCount++] = (long) c.positions.get(r) << 32 | r;
+                pool[poolCount++] = c.positions.get(r);
+            }
+        }
+
+        Arrays.sort(before, 0, beforeCount);
+        Arrays.sort(after, 0, afterCount);
+        Arrays.sort(pool, 0, poolCount);
+
+        for (int i = 0; i < beforeCount; i++) {
+            c.move((int) before[i], pool[i]);
+        }
+
+        for (int i = 0; i < afterCount; i++) {
+            c.move((int) after[i], pool[poolCount - afterCount + i]);
+        }
+
+        if (cycleCount > 0) {
+            c.merge(Arrays.copyOf(cycle, cycleCount), pool[beforeCount]);
+        }
+    }
+
+    /**
+     * @return components with positions in the {@code [lower, upper]} range reachable from {@code start}, or
+     * reaching it if {@code forward} is false, including {@code start}, or null if finding them takes more than
+     * {@code allowed} edge scans since the order was built. {@code end}, the component at the other bound, is not
+     * searched any further, as it can only lead out of the range.
+     */
+    private int[] reach(Condensation c, int start, int end, int lower, int upper, boolean forward, long allowed) {
+        int[] marks = forward ? forwardMarks : backwardMarks;
+        reachedCount = 0;
+        visit(start, marks);
+
+        for (int i = 0; i < reachedCount; i++) {
+            int component = reached[i];
+
+            if (component == end) {
+                continue;
+            }
+
+            int position = c.positions.get(component);
+            int from = forward ? position + 1 : lower, to = forward ? upper : position - 1;
+
+            if (isCheaperToPull(c, component, from, to)) {
+                pull(c, component, from, to, marks, forward);
+            } else {
+                push(c, component, lower, upper, marks, forward);
+            }
+
+            if (scans > allowed) {
+                return null;
+            }
+        }
+
+        return Arrays.copyOf(reached, reachedCount);
+    }
+
+    /**
+     * Visits the components at the other ends of the edges of {@code component}'s members
+     */
+    private void push(Condensation c, int component, int lower, int upper, int[] marks, boolean forward) {
+        int member = component;
+
+        do {
+            for (Edge<V> e : edgesOf(member, forward)) {
+                int other = c.components.find(vertices.idOf(forward ? e.sink() : e.source()));
+                int position = c.position(other);
+                scans++;
+
+                if (position >= lower && position <= upper && marks[other] != epoch) {
+                    visit(other, marks);
+                }
+            }
+
+            member = c.nextMember(member);
+        } while (member != component);
+    }
+
+    /**
+     * Visits the components positioned within {@code [from, to]} which have edges from {@code component}, or to it
+     * if {@code forward} is false, found through their own edges
+     */
+    private void pull(Condensation c, int component, int from, int to, int[] marks, boolean forward) {
+        for (int position = from; position <= to; position++) {
+            int other = c.componentAt(position);
+
+            if (other >= 0 && marks[other] != epoch && isAdjacent(c, other, component, !forward)) {
+                visit(other, marks);
+            }
+        }
+    }
+
+    /**
+     * A large component, such as the giant one most vertices of a random graph end up in, has more members than
+     * there are components within the range it's searched in. It's then cheaper to look for edges to it from them
+     * than to scan all of its own edges.
+     * @return true if the components positioned within {@code [from, to]} have fewer members than {@code component}
+     */
+    private boolean isCheaperToPull(Condensation c, int component, int from, int to) {
+        // members stand for their edges, which are far more costly to scan than positions
+        int budget = c.sizes[component] + 1;
+
+        if ((to - from + 1) / POSITIONS_PER_MEMBER >= budget) {
+            return false;
+        }
+
+        for (int position = from; position <= to; position++) {
+            int other = c.componentAt(position);
+
+            if (other >= 0 && (budget -= c.sizes[other] + 1) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true if any member of {@code component} has an edge to a member of {@code other}, or from one if
+     * {@code forward} is false
+     */
+    private boolean isAdjacent(Condensation c, int component, int other, boolean forward) {
+        int member = component;
+
+        do {
+            for (Edge<V> e : edgesOf(member, forward)) {
+                scans++;
+
+                if (c.components.find(vertices.idOf(forward ? e.sink() : e.source())) == other) {
+                    return true;
+                }
+            }
+
+            member = c.nextMember(member);
+        } while (member != component);
+
+        return false;
+    }
+
+    private Set<Edge<V>> edgesOf(int vertex, boolean out) {
+        V v = vertices.vertexOf(vertex);
+        return out ? edges.outEdges(v) : edges.inEdges(v);
+    }
+
+    private void visit(int component, int[] marks) {
+        marks[component] = epoch;
+
+        if (reachedCount == reached.length) {
+            reached = Arrays.copyOf(reached, reachedCount * 2);
+        }
+
+        reached[reachedCount++] = component;
+    }
+
+    /**
+     * Builds the condensation from scratch with Tarjan's algorithm, which finds strongly connected components in
+     * reverse topological order. Vertices added meanwhile are left out, their edges are checked by their own
+     * {@link #connect(int, int)} calls against the new condensation.
+     */
+    private void rebuild() {
+        builtAdded = added.sum();
+        int n = vertices.size(), counter = 0, top = 0, depth = 0, found = 0;
+        long edgeCount = 0;
+        Condensation c = new Condensation(Math.max(n, 16));
+        // discovery order + 1 and the lowest one reachable, 0 for vertices not visited yet
+        int[] index = new int[n], low = new int[n], stack = new int[n], path = new int[n], roots = new int[n];
+        boolean[] isOnStack = new boolean[n];
+        @SuppressWarnings("unchecked")
+        Iterator<Edge<V>>[] iterators = new Iterator[n];
+
+        for (int s = 0; s < n; s++) {
+            if (index[s] != 0) {
+                continue;
+            }
+
+            index[s] = low[s] = ++counter;
+            stack[top++] = s;
+            isOnStack[s] = true;
+            path[depth] = s;
+            iterators[depth++] = edgesOf(s, true).iterator();
+
+            while (depth > 0) {
+                int v = path[depth - 1];
+                Iterator<Edge<V>> it = iterators[depth - 1];
+
+                if (it.hasNext()) {
+                    int w = vertices.idOf(it.next().sink());
+                    edgeCount++;
+
+                    if (w >= n) {
+                        continue;
+                    }
+
+                    if (index[w] == 0) {
+                        index[w] = low[w] = ++counter;
+                        stack[top++] = w;
+                        isOnStack[w] = true;
+                        path[depth] = w;
+                        iterators[depth++] = edgesOf(w, true).iterator();
+                    } else if (isOnStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+
+                    continue;
+                }
+
+                iterators[--depth] = null;
+
+                if (depth > 0) {
+                    int parent = path[depth - 1];
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+
+                if (low[v] != index[v]) {
+                    continue;
+                }
+
+                // v is the root of a component, whose members are on the stack above it
+                int next = v, w;
+
+                do {
+                    w = stack[--top];
+                    isOnStack[w] = false;
+
+                    if (w != v) {
+                        c.components.link(w, v);
+                        c.members.set(w, next + 1);
+                        c.sizes[v]++;
+                        next = w;
+                    }
+                } while (w != v);
+
+                if (next != v) {
+                    c.members.set(v, next + 1);
+                }
+
+                roots[found++] = v;
+            }
+        }
+
+        for (int i = 0; i < found; i++) {
+            c.move(roots[i], found - i);
+        }
+
+        c.lastPosition.set(found);
+        builtSize = n + edgeCount;
+        scans = 0;
+        condensation = c;
+    }
+
+    /**
+     * A constant time check which never runs a search
+     * @return false if {@code v} is known to be unreachable from {@code u}, true if it may be reachable
+     */
+    boolean mayReach(int u, int v) {
+        if (!connected.isConnected(u, v)) {
+            return false;
+        }
+
+        if (!isDirected) {
+            return true;
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        Condensation c = condensation;
+        boolean mayReach = c == null || c.mayPrecede(u, v);
+
+        if (lock.validate(stamp)) {
+            return mayReach;
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            c = condensation;
+            return c == null || c.mayPrecede(u, v);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * An exact check. For directed graphs, pairs which can't be ruled out by {@link #mayReach(int, int)} are
+     * searched for, skipping vertices of components positioned after {@code v}'s one.
+     * @return true if there is a path from {@code u} to {@code v}
+     */
+    boolean reaches(int u, int v) {
+        if (!connected.isConnected(u, v)) {
+            return false;
+        }
+
+        if (!isDirected) {
+            return true;
+        }
+
+        // searches can take long, so writers are only held off by a retry under the read lock
+        long stamp = lock.tryOptimisticRead();
+        boolean reaches = search(condensation, u, v);
+
+        if (lock.validate(stamp)) {
+            return reaches;
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return search(condensation, u, v);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private boolean search(Condensation c, int u, int v) {
+        if (c != null && !c.mayPrecede(u, v)) {
+            return false;
+        }
+
+        int target = c == null ? v : c.components.find(v);
+        int limit = c == null ? 0 : c.positions.get(target);
+        BitSet visited = new BitSet();
+        Deque<Integer> queue = new ArrayDeque<>();
+        visited.set(u);
+        queue.add(u);
+
+        while (!queue.isEmpty()) {
+            int w = queue.poll();
+
+            if ((c == null ? w : c.components.find(w)) == target) {
+                return true;
+            }
+
+            for (Edge<V> e : edgesOf(w, true)) {
+                int next = vertices.idOf(e.sink());
+                int position = limit == 0 ? 0 : c.positions.get(c.components.find(next));
+
+                // components positioned after the target's one can't lead to it
+                if (!visited.get(next) && (position == 0 || position <= limit)) {
+                    visited.set(next);
+                    queue.add(next);
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Strongly connected components and a topological order of them, replaced as a whole when rebuilt
+     */
+    private static final class Condensation {
+        final UnionFind components = new UnionFind();
+        // next member of the same component + 1, linking members in a cycle, 0 for lone vertices
+        final ChunkedAtomicIntArray members = new ChunkedAtomicIntArray();
+        // position of every component at its root, 0 until assigned
+        final ChunkedAtomicIntArray positions = new ChunkedAtomicIntArray();
+        // component + 1 at every assigned position, stale once the component moves or is merged
+        final ChunkedAtomicIntArray order = new ChunkedAtomicIntArray();
+        final AtomicInteger lastPosition = new AtomicInteger();
+        // member counts - 1 at the roots, only accessed by the writer
+        int[] sizes;
+
+        Condensation(int capacity) {
+            sizes = new int[capacity];
+        }
+
+        void ensureCapacity(int size) {
+            if (sizes.length < size) {
+                sizes = Arrays.copyOf(sizes, Math.max(size, sizes.length * 2));
+            }
+        }
+
+        /**
+         * @return true if an edge from {@code u} to {@code v} is consistent with the topological order
+         */
+        boolean isOrdered(int u, int v) {
+            int cu = components.find(u), cv = components.find(v);
+            return cu == cv || position(cu) < position(cv);
+        }
+
+        /**
+         * @return false if the components of the vertices both have positions and {@code v}'s does not come later
+         */
+        boolean mayPrecede(int u, int v) {
+            int cu = components.find(u), cv = components.find(v);
+            int pu = positions.get(cu), pv = positions.get(cv);
+            return cu == cv || pu == 0 || pv == 0 || pu < pv;
+        }
+
+        /**
+         * @return the position of a component, assigning it the next free one if it has none. Fresh positions come
+         * after all others, which is correct for components whose edges have not been checked yet
+         */
+        int position(int component) {
+            int position = positions.get(component);
+
+            if (position == 0) {
+                int fresh = lastPosition.incrementAndGet();
+                // listed first, so that a writer never finds a position it can't map back to its component
+                order.set(fresh, component + 1);
+                positions.compareAndSet(component, 0, fresh);
+                position = positions.get(component);
+            }
+
+            return position;
+        }
+
+        void move(int component, int position) {
+            positions.set(component, position);
+            order.set(position, component + 1);
+        }
+
+        /**
+         * @return the component at a position, or -1 if there is none
+         */
+        int componentAt(int position) {
+            int component = order.get(position) - 1;
+            return component >= 0 && components.find(component) == component &&
+                    positions.get(component) == position ? component : -1;
+        }
+
+        int nextMember(int v) {
+            int next = members.get(v);
+            return next == 0 ? v : next - 1;
+        }
+
+        /**
+         * Merges components into the one with the most members, which keeps union-find paths short, and splices
+         * their member cycles into one
+         */
+        void merge(int[] merged, int position) {
+            int root = merged[0];
+
+            for (int c : merged) {
+                if (sizes[c] > sizes[root]) {
+                    root = c;
+                }
+            }
+
+            for (int c : merged) {
+                if (c != root) {
+                    components.link(c, root);
+                    sizes[root] += sizes[c] + 1;
+                    int next = nextMember(root);
+                    members.set(root, nextMember(c) + 1);
+                    members.set(c, next + 1);
+                }
+            }
+
+            move(root, position);
+        }
+    }
+
+    /**
+     * A concurrent union-find structure over vertex ids, where vertices not linked to any other are their own roots
+     */
+    private static final class UnionFind {
+        // parent id + 1 for every vertex, 0 for roots
+        private final ChunkedAtomicIntArray parents = new ChunkedAtomicIntArray();
+
+        void union(int u, int v) {
+            while (true) {
+                int ru = find(u), rv = find(v);
+
+                if (ru == rv) {
+                    return;
+                }
+
+                // roots are always linked under the larger id, so concurrent links can't form a cycle
+                if (ru > rv) {
+                    int root = ru;
+                    ru = rv;
+                    rv = root;
+                }
+
+                if (parents.compareAndSet(ru, 0, rv + 1)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Links one root under another, callers are responsible for not linking concurrently
+         */
+        void link(int root, int parent) {
+            parents.set(root, parent + 1);
+        }
+
+        int find(int v) {
+            while (true) {
+                int parent = parents.get(v) - 1;
+
+                if (parent < 0) {
+                    return v;
+                }
+
+                int grandparent = parents.get(parent) - 1;
+
+                if (grandparent < 0) {
+                    return parent;
+                }
+
+                // path halving, losing the race to another thread is harmless
+                parents.compareAndSet(v, parent + 1, grandparent + 1);
+                v = grandparent;
+            }
+        }
+
+        boolean isConnected(int u, int v) {
+            while (true) {
+                int ru = find(u), rv = find(v);
+
+                if (ru == rv) {
+                    return true;
+                }
+
+                // both roots are unchanged after the second lookup, so they were distinct at the same moment
+                if (parents.get(ru) == 0) {
+                    return false;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package artemmindrov.graphs;
+
+import artemmindrov.graphs.pathfinders.ShortestPathTree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shortest path distances between every pair of a set of sources and a set of targets, as computed by
+ * {@link Graph#distanceMatrix(java.util.Collection, java.util.Collection)}. Rows correspond to sources and columns
+ * to targets, both deduplicated and kept in the order of their first occurrence.
+ * @param <V> user defined vertex type
+ */
+public final class DistanceMatrix<V> {
+    private final List<V> sources, targets;
+    private final Map<V, Integer> sourceIndex, targetIndex;
+    private final long[][] distances;
+    private final List<Edge<V>>[][] paths;
+
+    DistanceMatrix(List<V> sources, Map<V, Integer> sourceIndex, List<V> targets, Map<V, Integer> targetIndex,
+                   long[][] distances, List<Edge<V>>[][] paths) {
+        this.sources = Collections.unmodifiableList(sources);
+        this.sourceIndex = sourceIndex;
+        this.targets = Collections.unmodifiableList(targets);
+        this.targetIndex = targetIndex;
+        this.distances = distances;
+        this.paths = paths;
+    }
+
+    /**
+     * @return distinct source vertices, in row order
+     */
+    public List<V> sources() { return sources; }
+
+    /**
+     * @return distinct target vertices, in column order
+     */
+    public List<V> targets() { return targets; }
+
+    /**
+     * @param row source index, see {@link DistanceMatrix#sources()}
+     * @param column target index, see {@link DistanceMatrix#targets()}
+     * @return the weight of the shortest path, or {@link ShortestPathTree#UNREACHABLE} if there is none
+     */
+    public long distanceAt(int row, int column) {
+        return distances[row][column];
+    }
+
+    /**
+     * @param source one of the matrix's sources
+     * @param target one of the matrix's targets
+     * @return the weight of the shortest path, or {@link ShortestPathTree#UNREACHABLE} if there is none
+     * @throws IllegalArgumentException if either vertex is not part of the matrix
+     */
+    public long distance(V source, V target) {
+        return distances[index(sourceIndex, source)][index(targetIndex, target)];
+    }
+
+    /**
+     * @param source one of the matrix's sources
+     * @param target one of the matrix's targets
+     * @return a list of edges from source to target, an empty list if there is no path or source and target are
+     * the same vertex
+     * @throws IllegalArgumentException if either vertex is not part of the matrix
+     * @throws IllegalStateException if the matrix was computed without paths
+     */
+    public List<Edge<V>> path(V source, V target) {
+        if (paths == null) {
+            throw new IllegalStateException("Distance matrix was computed without paths");
+        }
+
+        return new ArrayList<>(paths[index(sourceIndex, source)][index(targetIndex, target)]);
+    }
+
+    /**
+     * @return whether paths were kept along with distances
+     */
+    public boolean hasPaths() { return paths != null; }
+
+    private static <V> int index(Map<V, Integer> index, V vertex) {
+        Integer i = index.get(vertex);
+
+        if (i == null) {
+            throw new IllegalArgumentException("Vertex " + vertex + " is not part of the matrix");
+        }
+
+        return i;
+    }
+}
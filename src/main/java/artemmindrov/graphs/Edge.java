@@ -1,5 +1,7 @@
 package artemmindrov.graphs;
 
+import java.util.Collection;
+
 /**
  * Represents a unidirectional graph edge from a single source vertex to a single target.
  * For weighted graphs, also contains the weight.
@@ -15,6 +17,27 @@ public class Edge<V> {
         this.weight = weight;
     }
 
+    /**
+     * Creates a standalone edge, e.g. for use with {@link artemmindrov.graphs.Graph#addEdges(Collection)}
+     * @param source the vertex the edge goes out of
+     * @param sink the vertex the edge terminates at
+     * @param weight the edge's weight
+     * @return an edge instance
+     */
+    public static <V> Edge<V> of(V source, V sink, long weight) {
+        return new Edge<>(source, sink, weight);
+    }
+
+    /**
+     * An unweighted counterpart to {@link artemmindrov.graphs.Edge#of(Object, Object, long)}
+     * @param source the vertex the edge goes out of
+     * @param sink the vertex the edge terminates at
+     * @return an edge instance with the default weight
+     */
+    public static <V> Edge<V> of(V source, V sink) {
+        return new Edge<>(source, sink, Graph.DEFAULT_WEIGHT);
+    }
+
     /**
      * Can be used to check if this edge goes out of a particular vertex
      * @param source the vertex to check the edge against
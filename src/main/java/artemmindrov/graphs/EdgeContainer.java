@@ -1,17 +1,87 @@
 package artemmindrov.graphs;
 
+import artemmindrov.graphs.metrics.GraphMetricsListener;
+
+import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
 
 class EdgeContainer<V> {
     private final ConcurrentMap<Edge<V>, Boolean> edges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<V, Set<Edge<V>>> outgoing = new ConcurrentHashMap<>();
+    private final ConcurrentMap<V, Set<Edge<V>>> incoming = new ConcurrentHashMap<>();
+    private volatile boolean hasNegativeEdges;
+    private GraphMetricsListener<?> metrics;
+
+    /**
+     * Sets the listener to report lock waits to, before the container is shared with other threads
+     */
+    void metrics(GraphMetricsListener<?> listener) {
+        metrics = listener;
+    }
+
+    /**
+     * Acquires a lock guarding inserts, measuring the wait if instrumentation is enabled
+     */
+    final void acquire(Lock lock) {
+        if (metrics == null) {
+            lock.lock();
+        } else if (lock.tryLock()) {
+            metrics.lockWaited(0);
+        } else {
+            long started = System.nanoTime();
+            lock.lock();
+            metrics.lockWaited(System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Picks one of {@code stripes} (a power of two) lock stripes for a vertex pair given the hashes of its ends.
+     * The pair is ordered first, so both orientations share a stripe, and the result is mixed so that pairs of
+     * neighbouring ids (as in paths or grids) spread evenly instead of colliding the way {@code a ^ b} does
+     */
+    static int stripe(int a, int b, int stripes) {
+        int hash = Math.min(a, b) * 31 + Math.max(a, b);
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash & (stripes - 1);
+    }
 
     boolean addEdge(V source, V sink, long weight) {
-        return edges.putIfAbsent(new Edge<>(source, sink, weight), true) == null;
+        return addEdge(new Edge<>(source, sink, weight));
+    }
+
+    boolean addEdge(Edge<V> edge) {
+        if (edges.putIfAbsent(edge, true) != null) {
+            return false;
+        }
+
+        outgoing.computeIfAbsent(edge.source(), v -> ConcurrentHashMap.newKeySet()).add(edge);
+        incoming.computeIfAbsent(edge.sink(), v -> ConcurrentHashMap.newKeySet()).add(edge);
+
+        if (edge.weight() < 0) {
+            hasNegativeEdges = true;
+        }
+
+        return true;
     }
 
     boolean isDirected() { return true; }
 
+    boolean hasNegativeEdges() { return hasNegativeEdges; }
+
     Set<Edge<V>> edges() { return edges.keySet(); }
+
+    Set<Edge<V>> outEdges(V vertex) {
+        return outgoing.getOrDefault(vertex, Collections.emptySet());
+    }
+
+    Set<Edge<V>> inEdges(V vertex) {
+        return incoming.getOrDefault(vertex, Collections.emptySet());
+    }
 }
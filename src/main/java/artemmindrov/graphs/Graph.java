@@ -1,35 +1,94 @@
 package artemmindrov.graphs;
 
-import artemmindrov.graphs.pathfinders.BellmanFord;
+import artemmindrov.graphs.metrics.GraphMetricsListener;
+import artemmindrov.graphs.metrics.QueryMetrics;
+import artemmindrov.graphs.pathfinders.Dijkstra;
+import artemmindrov.graphs.pathfinders.IncrementalShortestPaths;
 import artemmindrov.graphs.pathfinders.PathFinder;
+import artemmindrov.graphs.pathfinders.QueryAbortedException;
+import artemmindrov.graphs.pathfinders.QueryContext;
+import artemmindrov.graphs.pathfinders.QueryStats;
+import artemmindrov.graphs.pathfinders.QueryStatus;
+import artemmindrov.graphs.pathfinders.ShortestPathTree;
+import artemmindrov.graphs.pathfinders.SingleSourcePathFinder;
+import artemmindrov.graphs.pathfinders.Spfa;
 
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * An abstract graph representation supporting a few basic operations: adding vertices/edges and path lookup.
  * @param <V> user defined vertex type
  */
 public abstract class Graph<V> {
-    private static final long DEFAULT_WEIGHT = 1;
-    private final ConcurrentMap<V, Boolean> vertices = new ConcurrentHashMap<>();
+    static final long DEFAULT_WEIGHT = 1;
+    private final VertexIndex<V> vertices;
     private final EdgeContainer<V> edgeContainer;
+    private final SingleSourcePathFinder<V> dijkstra = new Dijkstra<>();
+    private final SingleSourcePathFinder<V> spfa = new Spfa<>();
+    private final LongAdder version = new LongAdder();
+    private final PathCache<V> pathCache;
+    private final List<GraphListener<V>> listeners = new CopyOnWriteArrayList<>();
+    private final GraphMetricsListener<? super V> metrics;
+    private final Connectivity<V> connectivity;
 
-    Graph(EdgeContainer<V> ei) {
+    Graph(VertexIndex<V> vi, EdgeContainer<V> ei, PathCache<V> pc, GraphMetricsListener<? super V> gml) {
+        vertices = vi;
         edgeContainer = ei;
+        pathCache = pc;
+        metrics = gml;
+        connectivity = new Connectivity<>(vi, ei);
     }
 
     /**
      * @return an immutable view of the graph's vertices, in no particular order
      */
     public Set<V> vertices() {
-        return Collections.unmodifiableSet(vertices.keySet());
+        return Collections.unmodifiableSet(vertices.vertices());
     }
 
+    /**
+     * @return the number of vertices in the graph
+     */
+    public int vertexCount() { return vertices.size(); }
+
+    /**
+     * Vertices are assigned stable dense int ids in the order they are added, starting from 0. Path finders can use
+     * those to keep their state in flat arrays rather than maps keyed by vertex.
+     * @param vertex the vertex to look up
+     * @return the vertex's id, or -1 if the vertex is non-existent
+     */
+    public int idOf(V vertex) { return vertices.idOf(vertex); }
+
+    /**
+     * @param id vertex id as returned by {@link artemmindrov.graphs.Graph#idOf(Object)}
+     * @return the vertex with the specified id
+     * @throws IndexOutOfBoundsException if no vertex has been assigned the id
+     */
+    public V vertexOf(int id) { return vertices.vertexOf(id); }
+
     /**
      * @return an immutable view of the graph's edges, in no particular order
      * Refer to {@link artemmindrov.graphs.Edge} for operations supported on edges
@@ -39,6 +98,40 @@ public abstract class Graph<V> {
         return Collections.unmodifiableSet(edgeContainer.edges());
     }
 
+    /**
+     * @param vertex the vertex to look up
+     * @return an immutable view of the edges going out of {@code vertex}, empty if there are none or the vertex
+     * is non-existent. For undirected graphs, this includes one half of every edge touching the vertex
+     */
+    public Set<Edge<V>> outEdges(V vertex) {
+        return Collections.unmodifiableSet(edgeContainer.outEdges(vertex));
+    }
+
+    /**
+     * @param vertex the vertex to look up
+     * @return an immutable view of the edges terminating at {@code vertex}, empty if there are none or the vertex
+     * is non-existent
+     */
+    public Set<Edge<V>> inEdges(V vertex) {
+        return Collections.unmodifiableSet(edgeContainer.inEdges(vertex));
+    }
+
+    /**
+     * @param vertex the vertex to look up
+     * @return the number of edges going out of {@code vertex}
+     */
+    public int outDegree(V vertex) {
+        return edgeContainer.outEdges(vertex).size();
+    }
+
+    /**
+     * @param vertex the vertex to look up
+     * @return the number of edges terminating at {@code vertex}
+     */
+    public int inDegree(V vertex) {
+        return edgeContainer.inEdges(vertex).size();
+    }
+
     /**
      * @return a boolean telling if this graph is weighted
      */
@@ -49,12 +142,39 @@ public abstract class Graph<V> {
      */
     public boolean isDirected() { return edgeContainer.isDirected(); }
 
+    /**
+     * @return a boolean telling if any edge with a negative weight has been added to this graph
+     */
+    public boolean hasNegativeEdges() { return edgeContainer.hasNegativeEdges(); }
+
+    /**
+     * @return a counter of successful modifications (vertex or edge additions) of the graph, which can be compared
+     * to tell if the graph has changed
+     */
+    public long version() { return version.sum(); }
+
     public boolean addVertex(final V vertex) {
-        return vertices.putIfAbsent(vertex, true) == null;
+        if (!modified(vertices.add(vertex))) {
+            return false;
+        }
+
+        for (GraphListener<V> listener : listeners) {
+            listener.vertexAdded(vertex);
+        }
+
+        return true;
+    }
+
+    private boolean modified(boolean modified) {
+        if (modified) {
+            version.increment();
+        }
+
+        return modified;
     }
 
     private void ensureVertex(V vertex) {
-        if (!vertices.containsKey(vertex)) {
+        if (!vertices.contains(vertex)) {
             throw new UnsupportedOperationException();
         }
     }
@@ -71,7 +191,7 @@ public abstract class Graph<V> {
     public boolean addEdge(final V source, final V sink, long weight) {
         ensureVertex(source);
         ensureVertex(sink);
-        return edgeContainer.addEdge(source, sink, weight);
+        return insert(new Edge<>(source, sink, weight));
     }
 
     /**
@@ -85,7 +205,87 @@ public abstract class Graph<V> {
     public boolean addEdge(V source, V sink) {
         ensureVertex(source);
         ensureVertex(sink);
-        return edgeContainer.addEdge(source, sink, DEFAULT_WEIGHT);
+        return insert(new Edge<>(source, sink, DEFAULT_WEIGHT));
+    }
+
+    /**
+     * Adds a batch of edges created with {@link artemmindrov.graphs.Edge#of(Object, Object, long)}. All edges are
+     * validated before any of them is inserted, and insertion is then performed in parallel on the common fork-join
+     * pool. Duplicate edges, both within the batch and with respect to existing edges, are skipped.
+     * @param edges edges to add
+     * @return the number of edges actually added
+     * @throws UnsupportedOperationException when the source or sink of any edge is non-existent, or when any edge
+     * has a non-default weight and the graph is unweighted
+     */
+    public int addEdges(Collection<Edge<V>> edges) {
+        edges.parallelStream().forEach(this::ensureEdge);
+        long started = metrics == null ? 0 : System.nanoTime();
+        int added = (int) edges.parallelStream().filter(this::addAndNotify).count();
+        version.add(added);
+
+        if (metrics != null) {
+            metrics.edgesAdded(added, System.nanoTime() - started);
+        }
+
+        return added;
+    }
+
+    private boolean insert(Edge<V> edge) {
+        if (metrics == null) {
+            return modified(addAndNotify(edge));
+        }
+
+        long started = System.nanoTime();
+        boolean added = modified(addAndNotify(edge));
+        metrics.edgesAdded(added ? 1 : 0, System.nanoTime() - started);
+        return added;
+    }
+
+    private boolean addAndNotify(Edge<V> edge) {
+        if (!edgeContainer.addEdge(edge)) {
+            return false;
+        }
+
+        connectivity.connect(vertices.idOf(edge.source()), vertices.idOf(edge.sink()));
+
+        if (!listeners.isEmpty()) {
+            boolean reverse = !isDirected() && !edge.source().equals(edge.sink());
+
+            for (GraphListener<V> listener : listeners) {
+                listener.edgeAdded(edge);
+
+                if (reverse) {
+                    listener.edgeAdded(new Edge<>(edge.sink(), edge.source(), edge.weight()));
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Registers a listener to be notified of vertices and edges added from now on
+     * @param listener the listener to add
+     */
+    public void addListener(GraphListener<V> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener the listener to remove
+     * @return true if the listener was registered
+     */
+    public boolean removeListener(GraphListener<V> listener) {
+        return listeners.remove(listener);
+    }
+
+    private void ensureEdge(Edge<V> edge) {
+        ensureVertex(edge.source());
+        ensureVertex(edge.sink());
+
+        if (!isWeighted() && edge.weight() != DEFAULT_WEIGHT) {
+            throw new UnsupportedOperationException();
+        }
     }
 
     /**
@@ -93,24 +293,317 @@ public abstract class Graph<V> {
      * @param source vertex to use as path source
      * @param dest vertex to use as path end
      * @return a list of edges between the vertices as produced by the path finder, an empty list if any of
-     * the vertices are non-existent or there is no path between them
+     * the vertices are non-existent or there is no path between them. If the graph was built with a path cache,
+     * the list is immutable and may be served from the cache, provided the same path finder instance is used.
+     * The path finder is not invoked for pairs known to be unreachable, see
+     * {@link artemmindrov.graphs.Graph#isReachable(Object, Object)}
      */
     public List<Edge<V>> getPath(PathFinder<V> pf, V source, V dest) {
-        Set<V> vertices = vertices();
-
         if (source.equals(dest) || !vertices.contains(source) || !vertices.contains(dest)) {
             return Collections.emptyList();
         }
 
-        return pf.getPath(this, source, dest);
+        if (!connectivity.mayReach(vertices.idOf(source), vertices.idOf(dest))) {
+            return Collections.emptyList();
+        }
+
+        if (pathCache == null) {
+            return find(pf, source, dest);
+        }
+
+        long current = version();
+        List<Edge<V>> path = pathCache.get(pf, source, dest, current);
+
+        if (path == null) {
+            path = Collections.unmodifiableList(find(pf, source, dest));
+            pathCache.put(pf, source, dest, current, path);
+        }
+
+        return path;
+    }
+
+    /**
+     * A flavor of {@link artemmindrov.graphs.Graph#getPath(PathFinder, Object, Object)} enforcing the limits of
+     * {@code context}: once the query runs past its timeout or relaxation budget or is cancelled, it is aborted and
+     * the result tells why. Limits are only enforced by path finders overriding
+     * {@link PathFinder#getPath(Graph, Object, Object, QueryStats)}, which all built-in path finders do.
+     * @param pf a custom {@link artemmindrov.graphs.pathfinders.PathFinder} instance
+     * @param source vertex to use as path source
+     * @param dest vertex to use as path end
+     * @param context limits of the query, the timeout is counted from the call
+     * @return a {@link QueryResult} with the path, which is empty in the same cases as
+     * {@link artemmindrov.graphs.Graph#getPath(PathFinder, Object, Object)} returns an empty list, or if the query
+     * was aborted
+     */
+    public QueryResult<V> getPath(PathFinder<V> pf, V source, V dest, QueryContext context) {
+        QueryStats stats = new QueryStats(context);
+
+        if (source.equals(dest) || !vertices.contains(source) || !vertices.contains(dest) ||
+                !connectivity.mayReach(vertices.idOf(source), vertices.idOf(dest))) {
+            return new QueryResult<>(QueryStatus.COMPLETED, Collections.emptyList(), stats);
+        }
+
+        long current = version();
+        List<Edge<V>> path = pathCache == null ? null : pathCache.get(pf, source, dest, current);
+
+        if (path != null) {
+            return new QueryResult<>(QueryStatus.COMPLETED, path, stats);
+        }
+
+        try {
+            path = find(pf, source, dest, stats);
+        } catch (QueryAbortedException e) {
+            return new QueryResult<>(e.status(), Collections.emptyList(), stats);
+        }
+
+        if (pathCache != null) {
+            path = Collections.unmodifiableList(path);
+            pathCache.put(pf, source, dest, current, path);
+        }
+
+        return new QueryResult<>(QueryStatus.COMPLETED, path, stats);
+    }
+
+    /**
+     * Tells if there is a path between two vertices. Connected components are maintained as edges are added, which
+     * answers the question for undirected graphs and rules out pairs of different components in directed graphs.
+     * Directed graphs also maintain a topological order of their strongly connected components, which rules out
+     * paths leading to an earlier component, except while the order is dropped for being too costly to maintain
+     * and waits for the graph to grow before it's rebuilt. Other pairs are searched for, skipping components ordered
+     * after {@code dest}'s one. Pairs ruled out in constant time are also answered by
+     * {@link artemmindrov.graphs.Graph#getPath(PathFinder, Object, Object)} without invoking the path finder.
+     * @param source vertex to use as path source
+     * @param dest vertex to use as path end
+     * @return true if {@code dest} is reachable from {@code source}, which includes {@code source} itself
+     * @throws UnsupportedOperationException when either source or dest are non-existent
+     */
+    public boolean isReachable(V source, V dest) {
+        ensureVertex(source);
+        ensureVertex(dest);
+        return source.equals(dest) || connectivity.reaches(vertices.idOf(source), vertices.idOf(dest));
+    }
+
+    /**
+     * Tells if the graph has no cycles, in time linear in the size of the graph. Self-loops are cycles.
+     * Only supported on directed graphs.
+     * @return true if the graph is a directed acyclic graph
+     * @throws UnsupportedOperationException if the graph is undirected
+     */
+    public boolean isAcyclic() {
+        return topologicalIds() != null;
+    }
+
+    /**
+     * Sorts the vertices so that every edge goes from a vertex to a later one, with Kahn's algorithm, in time
+     * linear in the size of the graph. Only supported on directed graphs. It is not guaranteed that the order
+     * will include any concurrently added vertices.
+     * @return a list of all vertices in topological order
+     * @throws IllegalStateException if the graph contains a cycle
+     * @throws UnsupportedOperationException if the graph is undirected
+     */
+    public List<V> topologicalOrder() {
+        int[] ids = topologicalIds();
+
+        if (ids == null) {
+            throw new IllegalStateException("Graph contains a cycle");
+        }
+
+        List<V> order = new ArrayList<>(ids.length);
+
+        for (int id : ids) {
+            order.add(vertices.vertexOf(id));
+        }
+
+        return order;
+    }
+
+    /**
+     * @return vertex ids in topological order, null if there is a cycle
+     */
+    private int[] topologicalIds() {
+        if (!isDirected()) {
+            throw new UnsupportedOperationException();
+        }
+
+        GraphSnapshot<V> snapshot = snapshot();
+        int n = snapshot.vertexCount();
+        int[] inDegrees = new int[n], order = new int[n];
+        int head = 0, tail = 0;
+
+        for (int e = 0; e < snapshot.edgeCount(); e++) {
+            inDegrees[snapshot.target(e)]++;
+        }
+
+        for (int v = 0; v < n; v++) {
+            if (inDegrees[v] == 0) {
+                order[tail++] = v;
+            }
+        }
+
+        while (head < tail) {
+            int u = order[head++];
+
+            for (int e = snapshot.edgesFrom(u), end = snapshot.edgesTo(u); e < end; e++) {
+                int v = snapshot.target(e);
+
+                if (--inDegrees[v] == 0) {
+                    order[tail++] = v;
+                }
+            }
+        }
+
+        return tail == n ? order : null;
+    }
+
+    /**
+     * @return statistics of the path cache, all zeroes if the graph was built without one
+     */
+    public CacheStats pathCacheStats() {
+        return pathCache == null ? new CacheStats(0, 0, 0, 0) : pathCache.stats();
     }
 
     /**
      * A convenience flavor for {@link artemmindrov.graphs.Graph#getPath(PathFinder, Object, Object)}
-     * using the Bellman-Ford algorithm.
+     * using the Dijkstra algorithm, or the queue-based Bellman-Ford (SPFA) algorithm if the graph has negative edges.
      */
     public List<Edge<V>> getPath(V source, V dest) {
-        return getPath(new BellmanFord<>(), source, dest);
+        return getPath(hasNegativeEdges() ? spfa : dijkstra, source, dest);
+    }
+
+    /**
+     * Computes shortest paths from a vertex to all vertices of the graph at once, which is cheaper than separate
+     * {@link artemmindrov.graphs.Graph#getPath(PathFinder, Object, Object)} calls for many destinations.
+     * @param pf a custom {@link artemmindrov.graphs.pathfinders.SingleSourcePathFinder} instance
+     * @param source vertex to use as the source of all paths
+     * @return a {@link ShortestPathTree} as produced by the path finder
+     * @throws UnsupportedOperationException when source is non-existent
+     */
+    public ShortestPathTree<V> shortestPaths(SingleSourcePathFinder<V> pf, V source) {
+        ensureVertex(source);
+        if (metrics == null) {
+            return pf.shortestPaths(this, source);
+        }
+
+        QueryStats stats = new QueryStats();
+        long allocated = metrics.allocatedBytes(), started = System.nanoTime();
+        ShortestPathTree<V> tree = pf.shortestPaths(this, source, stats);
+        record(pf, source, null, started, allocated, stats);
+        return tree;
+    }
+
+    private List<Edge<V>> find(PathFinder<V> pf, V source, V dest) {
+        return metrics == null ? pf.getPath(this, source, dest) : find(pf, source, dest, new QueryStats());
+    }
+
+    private List<Edge<V>> find(PathFinder<V> pf, V source, V dest, QueryStats stats) {
+        if (metrics == null) {
+            return pf.getPath(this, source, dest, stats);
+        }
+
+        long allocated = metrics.allocatedBytes(), started = System.nanoTime();
+
+        try {
+            return pf.getPath(this, source, dest, stats);
+        } finally {
+            // aborted queries are recorded too, as they are the slowest ones
+            record(pf, source, dest, started, allocated, stats);
+        }
+    }
+
+    private void record(PathFinder<V> pf, V source, V dest, long started, long allocated, QueryStats stats) {
+        long nanos = System.nanoTime() - started;
+        long bytes = allocated < 0 ? -1 : metrics.allocatedBytes() - allocated;
+        metrics.queryCompleted(new QueryMetrics<>(pf.getClass().getSimpleName(), source, dest, nanos,
+                stats.settledVertices(), stats.relaxedEdges(), bytes));
+    }
+
+    /**
+     * A convenience flavor for {@link artemmindrov.graphs.Graph#shortestPaths(SingleSourcePathFinder, Object)}
+     * using the Dijkstra algorithm, or the queue-based Bellman-Ford (SPFA) algorithm if the graph has negative edges.
+     */
+    public ShortestPathTree<V> shortestPaths(V source) {
+        return shortestPaths(hasNegativeEdges() ? spfa : dijkstra, source);
+    }
+
+    /**
+     * Starts maintaining shortest paths from {@code source} as edges are added to the graph, which is much cheaper
+     * than recomputing them when paths from the same source are queried repeatedly between modifications.
+     * The returned instance should be closed once no longer needed.
+     * @param source vertex to use as the source of all paths
+     * @return an {@link IncrementalShortestPaths} instance registered as a listener of this graph
+     * @throws UnsupportedOperationException when source is non-existent
+     */
+    public IncrementalShortestPaths<V> trackShortestPaths(V source) {
+        ensureVertex(source);
+        return new IncrementalShortestPaths<>(this, source);
+    }
+
+    /**
+     * Computes shortest path distances from every vertex of {@code sources} to every vertex of {@code targets}.
+     * Duplicate sources are searched only once, and the searches for different sources run concurrently on
+     * {@code executor}, one single-source search per source, instead of a separate path search per pair.
+     * @param pf a custom {@link artemmindrov.graphs.pathfinders.SingleSourcePathFinder} instance
+     * @param sources vertices to use as path sources
+     * @param targets vertices to use as path ends, non-existent ones are considered unreachable
+     * @param keepPaths whether paths should be kept along with distances
+     * @param executor executor to run per-source searches on
+     * @return a {@link DistanceMatrix} with a row per distinct source and a column per distinct target
+     * @throws UnsupportedOperationException when any of the sources is non-existent
+     */
+    public DistanceMatrix<V> distanceMatrix(SingleSourcePathFinder<V> pf, Collection<V> sources,
+                                            Collection<V> targets, boolean keepPaths, Executor executor) {
+        return distanceMatrix(source -> shortestPaths(pf, source), sources, targets, keepPaths, executor);
+    }
+
+    /**
+     * A convenience flavor for
+     * {@link artemmindrov.graphs.Graph#distanceMatrix(SingleSourcePathFinder, Collection, Collection, boolean, Executor)}
+     * using the same algorithms as {@link artemmindrov.graphs.Graph#shortestPaths(Object)}, without paths, on the
+     * common fork-join pool.
+     */
+    public DistanceMatrix<V> distanceMatrix(Collection<V> sources, Collection<V> targets) {
+        return distanceMatrix(this::shortestPaths, sources, targets, false, ForkJoinPool.commonPool());
+    }
+
+    private DistanceMatrix<V> distanceMatrix(Function<V, ShortestPathTree<V>> search, Collection<V> sources,
+                                             Collection<V> targets, boolean keepPaths, Executor executor) {
+        Map<V, Integer> sourceIndex = new LinkedHashMap<>(), targetIndex = new LinkedHashMap<>();
+        sources.forEach(v -> sourceIndex.putIfAbsent(v, sourceIndex.size()));
+        targets.forEach(v -> targetIndex.putIfAbsent(v, targetIndex.size()));
+        sourceIndex.keySet().forEach(this::ensureVertex);
+
+        List<V> rows = new ArrayList<>(sourceIndex.keySet()), columns = new ArrayList<>(targetIndex.keySet());
+        long[][] distances = new long[rows.size()][];
+        @SuppressWarnings("unchecked")
+        List<Edge<V>>[][] paths = keepPaths ? new List[rows.size()][] : null;
+        CompletableFuture<?>[] searches = new CompletableFuture<?>[rows.size()];
+
+        for (int i = 0; i < rows.size(); i++) {
+            int row = i;
+            searches[i] = CompletableFuture.runAsync(() -> {
+                ShortestPathTree<V> tree = search.apply(rows.get(row));
+                distances[row] = columns.stream().mapToLong(tree::distanceTo).toArray();
+
+                if (paths != null) {
+                    @SuppressWarnings("unchecked")
+                    List<Edge<V>>[] rowPaths = new List[columns.size()];
+                    Arrays.setAll(rowPaths, j -> Collections.unmodifiableList(tree.pathTo(columns.get(j))));
+                    paths[row] = rowPaths;
+                }
+            }, executor);
+        }
+
+        try {
+            CompletableFuture.allOf(searches).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+
+        return new DistanceMatrix<>(rows, sourceIndex, columns, targetIndex, distances, paths);
     }
 
     /**
@@ -119,11 +612,156 @@ public abstract class Graph<V> {
      * @param udf user supplied function
      */
     public void traverse(Consumer<V> udf) {
-        for (V v : vertices.keySet()) {
+        for (V v : vertices.vertices()) {
             udf.accept(v);
         }
     }
 
+    /**
+     * A parallel flavor of {@link artemmindrov.graphs.Graph#traverse(Consumer)} running on the common fork-join pool.
+     * {@code udf} is called concurrently from multiple threads and should be thread safe.
+     * @param udf user supplied function
+     */
+    public void parallelTraverse(Consumer<V> udf) {
+        vertexStream().parallel().forEach(udf);
+    }
+
+    /**
+     * A flavor of {@link artemmindrov.graphs.Graph#parallelTraverse(Consumer)} running on the specified pool
+     * @param udf user supplied function
+     * @param pool the pool to run {@code udf} on
+     */
+    public void parallelTraverse(Consumer<V> udf, ForkJoinPool pool) {
+        pool.submit(() -> parallelTraverse(udf)).join();
+    }
+
+    /**
+     * Applies {@code udf} to every vertex along with the edges going out of it, visiting vertices in the order of
+     * their ids like {@link artemmindrov.graphs.Graph#vertexStream()}. This is a shorthand for calling
+     * {@link artemmindrov.graphs.Graph#outEdges(Object)} from {@link artemmindrov.graphs.Graph#traverse(Consumer)}.
+     * For undirected graphs, the edges include one half of every edge touching the vertex.
+     * @param udf user supplied function receiving a vertex and an immutable view of its out edges
+     */
+    public void traverseNeighbors(BiConsumer<V, Set<Edge<V>>> udf) {
+        vertexStream().forEach(v -> udf.accept(v, outEdges(v)));
+    }
+
+    /**
+     * A parallel flavor of {@link artemmindrov.graphs.Graph#traverseNeighbors(BiConsumer)} running on the common
+     * fork-join pool. {@code udf} is called concurrently from multiple threads and should be thread safe.
+     * @param udf user supplied function receiving a vertex and an immutable view of its out edges
+     */
+    public void parallelTraverseNeighbors(BiConsumer<V, Set<Edge<V>>> udf) {
+        vertexStream().parallel().forEach(v -> udf.accept(v, outEdges(v)));
+    }
+
+    /**
+     * @return a sequential stream of the graph's vertices in the order of their ids. The stream splits evenly for
+     * parallel processing as it is backed by the vertex id array. It is not guaranteed that the stream will include
+     * any concurrently added vertices.
+     */
+    public Stream<V> vertexStream() {
+        return StreamSupport.stream(vertices.spliterator(), false);
+    }
+
+    /**
+     * @return a sequential stream of the graph's edges, grouped by source vertex in the order of the vertices' ids.
+     * Like {@link artemmindrov.graphs.Graph#edges()}, for undirected graphs this includes both halves of every edge.
+     * The stream splits by source vertex for parallel processing. It is not guaranteed that the stream will include
+     * any concurrently added vertices or edges.
+     */
+    public Stream<Edge<V>> edgeStream() {
+        return vertexStream().flatMap(v -> edgeContainer.outEdges(v).stream());
+    }
+
+    /**
+     * Creates an immutable compressed sparse row snapshot of the graph, suitable for read-heavy workloads. Vertex ids
+     * in the snapshot are the same as in the graph.
+     * It is not guaranteed that the snapshot will include any concurrently added vertices or edges.
+     * @return a {@link GraphSnapshot} instance
+     */
+    public GraphSnapshot<V> snapshot() {
+        int vertexCount = vertices.size();
+        V[] snapshotVertices = vertices.toArray(vertexCount);
+        int capacity = Math.max(edgeContainer.edges().size(), 16);
+        int[] offsets = new int[vertexCount + 1];
+        int[] targets = new int[capacity];
+        long[] weights = isWeighted() ? new long[capacity] : null;
+        int edgeCount = 0;
+        boolean hasNegativeEdges = false;
+
+        for (int i = 0; i < vertexCount; i++) {
+            offsets[i] = edgeCount;
+
+            for (Edge<V> e : edgeContainer.outEdges(snapshotVertices[i])) {
+                int sink = vertices.idOf(e.sink());
+
+                if (sink >= vertexCount) {
+                    continue;
+                }
+
+                if (edgeCount == targets.length) {
+                    targets = Arrays.copyOf(targets, edgeCount * 2);
+
+                    if (weights != null) {
+                        weights = Arrays.copyOf(weights, edgeCount * 2);
+                    }
+                }
+
+                targets[edgeCount] = sink;
+
+                if (weights != null) {
+                    weights[edgeCount] = e.weight();
+                    hasNegativeEdges |= e.weight() < 0;
+                }
+
+                edgeCount++;
+            }
+        }
+
+        offsets[vertexCount] = edgeCount;
+        return new GraphSnapshot<>(snapshotVertices, vertices.ids(), IntBuffer.wrap(offsets),
+                IntBuffer.wrap(targets, 0, edgeCount).slice(),
+                weights == null ? null : LongBuffer.wrap(weights, 0, edgeCount).slice(), isDirected(), isWeighted(),
+                hasNegativeEdges);
+    }
+
+    /**
+     * Saves a {@link #snapshot()} of the graph to a file, see {@link GraphSnapshot#save(Path, VertexSerializer)}
+     * @param file the file to write
+     * @param serializer serializer to write vertices with
+     * @throws IOException if the file can't be written
+     */
+    public void save(Path file, VertexSerializer<V> serializer) throws IOException {
+        snapshot().save(file, serializer);
+    }
+
+    /**
+     * Loads a graph saved with {@link #save(Path, VertexSerializer)} into a new mutable graph with the same
+     * properties and vertex ids. For a read-only graph, {@link GraphSnapshot#load(Path, VertexSerializer)} is
+     * considerably faster as it maps the edges rather than inserting them.
+     * @param file the file to load
+     * @param serializer serializer to read vertices with, compatible with the one the file was written with
+     * @return a {@link Graph} instance
+     * @throws IOException if the file can't be read or is not a snapshot file
+     */
+    public static <V> Graph<V> load(Path file, VertexSerializer<V> serializer) throws IOException {
+        GraphSnapshot<V> snapshot = GraphSnapshot.load(file, serializer);
+        Graph<V> graph = Graph.<V>builder().directed(snapshot.isDirected()).weighted(snapshot.isWeighted()).build();
+        List<Edge<V>> edges = new ArrayList<>(snapshot.edgeCount());
+
+        for (int i = 0; i < snapshot.vertexCount(); i++) {
+            graph.addVertex(snapshot.vertexOf(i));
+
+            for (int e = snapshot.edgesFrom(i); e < snapshot.edgesTo(i); e++) {
+                edges.add(snapshot.edge(i, e));
+            }
+        }
+
+        graph.addEdges(edges);
+        return graph;
+    }
+
     /**
      * @return a {@link Builder} instance
      */
@@ -136,7 +774,10 @@ public abstract class Graph<V> {
      * @param <V> user defined type for the {@link Graph}'s vertices
      */
     public static class Builder<V> {
-        private boolean isDirected = true, isWeighted = true;
+        private boolean isDirected = true, isWeighted = true, isOffHeap;
+        private int pathCacheSize;
+        private long pathCacheTtlNanos;
+        private GraphMetricsListener<? super V> metrics;
 
         public Builder() {}
 
@@ -158,12 +799,57 @@ public abstract class Graph<V> {
             return this;
         }
 
+        /**
+         * @param offHeap set to keep edges in direct memory rather than on the heap (default is false), which keeps
+         * the heap small and stable for graphs with hundreds of millions of edges. Edges returned by the graph are
+         * then created on access, and inserting an edge takes time linear in the out-degree of its source
+         * @return self
+         */
+        public Builder<V> offHeap(boolean offHeap) {
+            isOffHeap = offHeap;
+            return this;
+        }
+
+        /**
+         * Enables an LRU cache of {@link Graph#getPath(PathFinder, Object, Object)} results (disabled by default).
+         * Cached paths are invalidated whenever a vertex or an edge is added to the graph.
+         * @param maxEntries maximum number of cached paths
+         * @param ttl time to live of a cached path, non-positive values mean paths only expire on graph changes
+         * @param unit time unit of {@code ttl}
+         * @return self
+         */
+        public Builder<V> pathCache(int maxEntries, long ttl, TimeUnit unit) {
+            if (maxEntries <= 0) {
+                throw new IllegalArgumentException("Path cache size should be positive");
+            }
+
+            pathCacheSize = maxEntries;
+            pathCacheTtlNanos = unit.toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * Enables instrumentation (disabled by default): path queries computed by path finders, edge inserts and
+         * edge container lock waits are measured and reported to the listener, e.g. a
+         * {@link artemmindrov.graphs.metrics.MetricsRecorder}
+         * @param listener the listener to report measurements to
+         * @return self
+         */
+        public Builder<V> metrics(GraphMetricsListener<? super V> listener) {
+            metrics = listener;
+            return this;
+        }
+
         /**
          * @return {@link Graph} instance based on properties set previously
          */
         public Graph<V> build() {
-            EdgeContainer<V> ei = isDirected ? new EdgeContainer<>() : new UndirectedEdgeContainer<>();
-            return isWeighted ? new WeightedGraph<>(ei) : new UnweightedGraph<>(ei);
+            VertexIndex<V> vi = new VertexIndex<>();
+            EdgeContainer<V> ei = isOffHeap ? new OffHeapEdgeContainer<>(vi, isDirected) :
+                    isDirected ? new EdgeContainer<>() : new UndirectedEdgeContainer<>();
+            PathCache<V> pc = pathCacheSize > 0 ? new PathCache<>(pathCacheSize, pathCacheTtlNanos) : null;
+            ei.metrics(metrics);
+            return isWeighted ? new WeightedGraph<>(vi, ei, pc, metrics) : new UnweightedGraph<>(vi, ei, pc, metrics);
         }
     }
 }
@@ -0,0 +1,20 @@
+package artemmindrov.graphs;
+
+/**
+ * Receives notifications of graph modifications, see {@link Graph#addListener(GraphListener)}. Notifications are
+ * delivered on the modifying thread right after the modification has been applied, so listeners may be called
+ * concurrently and should return quickly.
+ * @param <V> user defined vertex type
+ */
+public interface GraphListener<V> {
+    /**
+     * @param vertex the vertex that has been added
+     */
+    default void vertexAdded(V vertex) {}
+
+    /**
+     * Called once per directed half of an added edge, i.e. twice for undirected edges other than self-loops
+     * @param edge the edge that has been added
+     */
+    default void edgeAdded(Edge<V> edge) {}
+}
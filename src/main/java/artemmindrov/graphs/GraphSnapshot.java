@@ -0,0 +1,164 @@
+package artemmindrov.graphs;
+
+import artemmindrov.graphs.pathfinders.Dijkstra;
+import artemmindrov.graphs.pathfinders.SnapshotPathFinder;
+import artemmindrov.graphs.pathfinders.Spfa;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable <a href="https://en.wikipedia.org/wiki/Sparse_matrix#Compressed_sparse_row_(CSR,_CRS_or_Yale_format)">compressed
+ * sparse row</a> view of a {@link Graph}, intended for read-heavy workloads. Vertices are identified by dense int ids
+ * in the {@code [0, vertexCount())} range, and the edges going out of vertex {@code v} occupy the
+ * {@code [edgesFrom(v), edgesTo(v))} range of edge indices.
+ * @param <V> user defined vertex type
+ */
+public final class GraphSnapshot<V> {
+    private final V[] vertices;
+    private final Map<V, Integer> ids;
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+    private final LongBuffer weights;
+    private final boolean isDirected, isWeighted, hasNegativeEdges;
+    private final SnapshotPathFinder<V> dijkstra = new Dijkstra<>();
+    private final SnapshotPathFinder<V> spfa = new Spfa<>();
+
+    GraphSnapshot(V[] vertices, Map<V, Integer> ids, IntBuffer offsets, IntBuffer targets, LongBuffer weights,
+                  boolean isDirected, boolean isWeighted, boolean hasNegativeEdges) {
+        this.vertices = vertices;
+        this.ids = ids;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.isDirected = isDirected;
+        this.isWeighted = isWeighted;
+        this.hasNegativeEdges = hasNegativeEdges;
+    }
+
+    /**
+     * Loads a snapshot written by {@link GraphSnapshot#save(Path, VertexSerializer)}. Only the vertex table is read
+     * onto the heap, the edge arrays are memory-mapped read-only, so loading takes time proportional to the number
+     * of vertices and edges are paged in on first access.
+     * @param file the file to load
+     * @param serializer serializer to read vertices with, compatible with the one the file was written with
+     * @return a {@link GraphSnapshot} instance equal to the saved one
+     * @throws IOException if the file can't be read or is not a snapshot file
+     */
+    public static <V> GraphSnapshot<V> load(Path file, VertexSerializer<V> serializer) throws IOException {
+        return SnapshotFile.read(file, serializer);
+    }
+
+    /**
+     * Writes the snapshot to a file in a compact binary format, replacing the file if it exists. The edge arrays
+     * are stored in the CSR layout they have in memory, see {@link GraphSnapshot#load(Path, VertexSerializer)}.
+     * @param file the file to write
+     * @param serializer serializer to write vertices with
+     * @throws IOException if the file can't be written
+     */
+    public void save(Path file, VertexSerializer<V> serializer) throws IOException {
+        SnapshotFile.write(this, file, serializer);
+    }
+
+    /**
+     * @return number of vertices in the snapshot
+     */
+    public int vertexCount() { return vertices.length; }
+
+    /**
+     * @return number of (unidirectional) edges in the snapshot
+     */
+    public int edgeCount() { return offsets.get(vertices.length); }
+
+    /**
+     * @param vertex the vertex to look up
+     * @return the vertex's id, or -1 if the vertex is not part of the snapshot
+     */
+    public int idOf(V vertex) {
+        Integer id = ids.get(vertex);
+        return id == null || id >= vertices.length ? -1 : id;
+    }
+
+    /**
+     * @param id vertex id
+     * @return the vertex with the specified id
+     */
+    public V vertexOf(int id) { return vertices[id]; }
+
+    /**
+     * @param id vertex id
+     * @return index of the first edge going out of the vertex
+     */
+    public int edgesFrom(int id) { return offsets.get(id); }
+
+    /**
+     * @param id vertex id
+     * @return index following the last edge going out of the vertex
+     */
+    public int edgesTo(int id) { return offsets.get(id + 1); }
+
+    /**
+     * @param edge edge index
+     * @return id of the vertex the edge terminates at
+     */
+    public int target(int edge) { return targets.get(edge); }
+
+    /**
+     * @param edge edge index
+     * @return the edge's weight
+     */
+    public long weight(int edge) { return weights == null ? Graph.DEFAULT_WEIGHT : weights.get(edge); }
+
+    /**
+     * Materializes an {@link Edge} view of the edge with the specified index
+     * @param source id of the vertex the edge goes out of
+     * @param edge edge index
+     * @return an {@link Edge} instance equal to the one in the originating graph
+     */
+    public Edge<V> edge(int source, int edge) {
+        return new Edge<>(vertices[source], vertices[targets.get(edge)], weight(edge));
+    }
+
+    /**
+     * @return a boolean telling if the originating graph is weighted
+     */
+    public boolean isWeighted() { return isWeighted; }
+
+    /**
+     * @return a boolean telling if the originating graph is directed
+     */
+    public boolean isDirected() { return isDirected; }
+
+    /**
+     * @return a boolean telling if the snapshot contains edges with negative weights
+     */
+    public boolean hasNegativeEdges() { return hasNegativeEdges; }
+
+    /**
+     * @param pf a custom {@link SnapshotPathFinder} instance
+     * @param source vertex to use as path source
+     * @param dest vertex to use as path end
+     * @return a list of edges between the vertices as produced by the path finder, an empty list if any of
+     * the vertices are non-existent or there is no path between them
+     */
+    public List<Edge<V>> getPath(SnapshotPathFinder<V> pf, V source, V dest) {
+        if (source.equals(dest) || idOf(source) < 0 || idOf(dest) < 0) {
+            return Collections.emptyList();
+        }
+
+        return pf.getPath(this, source, dest);
+    }
+
+    /**
+     * A convenience flavor for {@link GraphSnapshot#getPath(SnapshotPathFinder, Object, Object)} using the Dijkstra
+     * algorithm, or the queue-based Bellman-Ford (SPFA) algorithm if the snapshot has negative edges.
+     */
+    public List<Edge<V>> getPath(V source, V dest) {
+        return getPath(hasNegativeEdges ? spfa : dijkstra, source, dest);
+    }
+}
@@ -0,0 +1,280 @@
+package artemmindrov.graphs;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps edges outside of the Java heap, as fixed size records in chunks of direct memory. A record holds int ids
+ * of the source and sink vertices (see {@link VertexIndex}), the weight, and the indices of the next records in the
+ * source's outgoing and the sink's incoming edge lists, whose heads are kept in {@link ChunkedAtomicIntArray}s.
+ * The heap footprint is thus two ints per vertex, regardless of the number of edges, and {@link Edge} instances are
+ * only created when edges are read.
+ * <p>
+ * Inserts of the same vertex pair are serialized on one of a fixed number of lock stripes, as duplicates are looked
+ * up by scanning the source's outgoing edges, which makes inserts linear in the source's out-degree. Records are
+ * pushed onto the lists with CAS after they are written, so reads need no locking. For undirected graphs, both halves
+ * of an edge are inserted under the same lock. Direct memory is released when the container is garbage collected.
+ * @param <V> user defined vertex type
+ */
+final class OffHeapEdgeContainer<V> extends EdgeContainer<V> {
+    private static final int RECORD_SIZE = 24;
+    private static final int SOURCE = 0, SINK = 4, WEIGHT = 8, NEXT_OUT = 16, NEXT_IN = 20;
+    private static final int CHUNK_SHIFT = 16, CHUNK_RECORDS = 1 << CHUNK_SHIFT;
+    private static final int STRIPES = 256;
+
+    private final VertexIndex<V> vertices;
+    private final boolean isDirected;
+    private final Lock[] locks = new Lock[STRIPES];
+    // list heads and next pointers are record indices plus one, so that 0 terminates lists
+    private final ChunkedAtomicIntArray outHeads = new ChunkedAtomicIntArray();
+    private final ChunkedAtomicIntArray inHeads = new ChunkedAtomicIntArray();
+    private final AtomicInteger allocated = new AtomicInteger();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile ByteBuffer[] chunks = new ByteBuffer[16];
+    private volatile boolean hasNegativeEdges;
+
+    OffHeapEdgeContainer(VertexIndex<V> vertices, boolean isDirected) {
+        this.vertices = vertices;
+        this.isDirected = isDirected;
+
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    boolean addEdge(Edge<V> edge) {
+        int source = vertices.idOf(edge.source()), sink = vertices.idOf(edge.sink());
+        long weight = edge.weight();
+        Lock lock = lockFor(source, sink);
+        acquire(lock);
+
+        try {
+            if (find(source, sink, weight)) {
+                return false;
+            }
+
+            insert(source, sink, weight);
+
+            if (!isDirected && source != sink) {
+                insert(sink, source, weight);
+            }
+
+            if (weight < 0) {
+                hasNegativeEdges = true;
+            }
+
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Lock lockFor(int source, int sink) {
+        return locks[stripe(source, sink, STRIPES)];
+    }
+
+    private boolean find(int source, int sink, long weight) {
+        for (int e = outHeads.get(source); e != 0; e = next(e, NEXT_OUT)) {
+            if (field(e, SINK) == sink && weight(e) == weight) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void insert(int source, int sink, long weight) {
+        int index = allocated.getAndIncrement();
+
+        if (index < 0 || index == Integer.MAX_VALUE) {
+            allocated.set(Integer.MAX_VALUE);
+            throw new IllegalStateException("Off-heap edge container is full");
+        }
+
+        ByteBuffer chunk = chunk(index);
+        int at = (index & (CHUNK_RECORDS - 1)) * RECORD_SIZE;
+        int record = index + 1;
+        chunk.putInt(at + SOURCE, source);
+        chunk.putInt(at + SINK, sink);
+        chunk.putLong(at + WEIGHT, weight);
+
+        // the record is fully written before the CAS publishes it to readers
+        int head;
+
+        do {
+            head = outHeads.get(source);
+            chunk.putInt(at + NEXT_OUT, head);
+        } while (!outHeads.compareAndSet(source, head, record));
+
+        do {
+            head = inHeads.get(sink);
+            chunk.putInt(at + NEXT_IN, head);
+        } while (!inHeads.compareAndSet(sink, head, record));
+
+        size.incrementAndGet();
+    }
+
+    private ByteBuffer chunk(int index) {
+        ByteBuffer[] current = chunks;
+        int chunk = index >>> CHUNK_SHIFT;
+        return chunk < current.length && current[chunk] != null ? current[chunk] : allocate(chunk);
+    }
+
+    private synchronized ByteBuffer allocate(int chunk) {
+        ByteBuffer[] current = chunks;
+
+        if (chunk >= current.length) {
+            current = Arrays.copyOf(current, Math.max(current.length * 2, chunk + 1));
+        }
+
+        if (current[chunk] == null) {
+            current[chunk] = ByteBuffer.allocateDirect(CHUNK_RECORDS * RECORD_SIZE);
+        }
+
+        chunks = current;
+        return current[chunk];
+    }
+
+    private int field(int record, int offset) {
+        int index = record - 1;
+        return chunks[index >>> CHUNK_SHIFT].getInt((index & (CHUNK_RECORDS - 1)) * RECORD_SIZE + offset);
+    }
+
+    private long weight(int record) {
+        int index = record - 1;
+        return chunks[index >>> CHUNK_SHIFT].getLong((index & (CHUNK_RECORDS - 1)) * RECORD_SIZE + WEIGHT);
+    }
+
+    private int next(int record, int offset) { return field(record, offset); }
+
+    private Edge<V> edge(int record) {
+        return new Edge<>(vertices.vertexOf(field(record, SOURCE)), vertices.vertexOf(field(record, SINK)),
+                weight(record));
+    }
+
+    @Override
+    boolean isDirected() { return isDirected; }
+
+    @Override
+    boolean hasNegativeEdges() { return hasNegativeEdges; }
+
+    @Override
+    Set<Edge<V>> edges() {
+        return new AbstractSet<Edge<V>>() {
+            @Override
+            public Iterator<Edge<V>> iterator() {
+                return new AllEdges();
+            }
+
+            @Override
+            public int size() { return size.get(); }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Edge)) {
+                    return false;
+                }
+
+                @SuppressWarnings("unchecked")
+                Edge<V> e = (Edge<V>) o;
+                int source = vertices.idOf(e.source()), sink = vertices.idOf(e.sink());
+                return source >= 0 && sink >= 0 && find(source, sink, e.weight());
+            }
+        };
+    }
+
+    @Override
+    Set<Edge<V>> outEdges(V vertex) {
+        int id = vertices.idOf(vertex);
+        return id < 0 ? Collections.emptySet() : new EdgeList(outHeads, id, NEXT_OUT);
+    }
+
+    @Override
+    Set<Edge<V>> inEdges(V vertex) {
+        int id = vertices.idOf(vertex);
+        return id < 0 ? Collections.emptySet() : new EdgeList(inHeads, id, NEXT_IN);
+    }
+
+    /**
+     * A view of one of the vertex's edge lists, read anew on every iteration
+     */
+    private final class EdgeList extends AbstractSet<Edge<V>> {
+        private final ChunkedAtomicIntArray heads;
+        private final int vertex, next;
+
+        EdgeList(ChunkedAtomicIntArray heads, int vertex, int next) {
+            this.heads = heads;
+            this.vertex = vertex;
+            this.next = next;
+        }
+
+        @Override
+        public Iterator<Edge<V>> iterator() {
+            return new Iterator<Edge<V>>() {
+                private int record = heads.get(vertex);
+
+                @Override
+                public boolean hasNext() { return record != 0; }
+
+                @Override
+                public Edge<V> next() {
+                    if (record == 0) {
+                        throw new NoSuchElementException();
+                    }
+
+                    Edge<V> e = edge(record);
+                    record = OffHeapEdgeContainer.this.next(record, next);
+                    return e;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            int count = 0;
+
+            for (int e = heads.get(vertex); e != 0; e = OffHeapEdgeContainer.this.next(e, next)) {
+                count++;
+            }
+
+            return count;
+        }
+    }
+
+    /**
+     * Walks the outgoing edge lists of all vertices in id order
+     */
+    private final class AllEdges implements Iterator<Edge<V>> {
+        private final int vertexCount = vertices.size();
+        private int vertex = -1, record;
+
+        @Override
+        public boolean hasNext() {
+            while (record == 0 && vertex + 1 < vertexCount) {
+                record = outHeads.get(++vertex);
+            }
+
+            return record != 0;
+        }
+
+        @Override
+        public Edge<V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Edge<V> e = edge(record);
+            record = OffHeapEdgeContainer.this.next(record, NEXT_OUT);
+            return e;
+        }
+    }
+}
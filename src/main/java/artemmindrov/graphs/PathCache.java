@@ -0,0 +1,152 @@
+package artemmindrov.graphs;
+
+import artemmindrov.graphs.pathfinders.PathFinder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded LRU cache of path query results keyed by path finder instance, source and destination. The cache is
+ * split into independently locked segments to reduce contention. Entries are tagged with the graph version they
+ * were computed at and are treated as stale once the graph is modified.
+ * @param <V> user defined vertex type
+ */
+final class PathCache<V> {
+    private static final int SEGMENTS = 16;
+
+    private final Segment<V>[] segments;
+    private final long ttlNanos;
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder(),
+            evictions = new LongAdder(), invalidations = new LongAdder();
+
+    /**
+     * @param maxEntries maximum number of cached paths, rounded up to a multiple of the number of segments
+     * @param ttlNanos time to live of an entry in nanoseconds, non-positive values mean no expiration
+     */
+    PathCache(int maxEntries, long ttlNanos) {
+        this.ttlNanos = ttlNanos;
+        segments = newSegments(Integer.highestOneBit(Math.min(SEGMENTS, maxEntries)));
+        int segmentCapacity = (maxEntries + segments.length - 1) / segments.length;
+
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment<>(segmentCapacity, evictions);
+        }
+    }
+
+    /**
+     * @param version the graph's current version
+     * @return the cached path, or null if there is no fresh entry
+     */
+    List<Edge<V>> get(PathFinder<V> pf, V source, V dest, long version) {
+        Key<V> key = new Key<>(pf, source, dest);
+        Segment<V> segment = segmentFor(key);
+        CachedPath<V> entry;
+
+        synchronized (segment) {
+            entry = segment.get(key);
+
+            if (entry != null && entry.version != version) {
+                segment.remove(key);
+                invalidations.increment();
+                entry = null;
+            } else if (entry != null && ttlNanos > 0 && System.nanoTime() - entry.created > ttlNanos) {
+                segment.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+        }
+
+        (entry == null ? misses : hits).increment();
+        return entry == null ? null : entry.path;
+    }
+
+    /**
+     * @param version the graph's version read before the path was computed
+     */
+    void put(PathFinder<V> pf, V source, V dest, long version, List<Edge<V>> path) {
+        Key<V> key = new Key<>(pf, source, dest);
+        Segment<V> segment = segmentFor(key);
+
+        synchronized (segment) {
+            segment.put(key, new CachedPath<>(path, version, System.nanoTime()));
+        }
+    }
+
+    CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Segment<V>[] newSegments(int count) {
+        return (Segment<V>[]) new Segment[count];
+    }
+
+    private Segment<V> segmentFor(Key<V> key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static final class Segment<V> extends LinkedHashMap<Key<V>, CachedPath<V>> {
+        private final int capacity;
+        private final LongAdder evictions;
+
+        Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key<V>, CachedPath<V>> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+
+            evictions.increment();
+            return true;
+        }
+    }
+
+    private static final class Key<V> {
+        private final PathFinder<V> pf;
+        private final V source, dest;
+
+        Key(PathFinder<V> pf, V source, V dest) {
+            this.pf = pf;
+            this.source = source;
+            this.dest = dest;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key k = (Key)other;
+            return pf == k.pf && source.equals(k.source) && dest.equals(k.dest);
+        }
+
+        @Override
+        public int hashCode() {
+            int prime = 31;
+            int result = System.identityHashCode(pf);
+            result = prime * result + source.hashCode();
+            result = prime * result + dest.hashCode();
+            return result;
+        }
+    }
+
+    private static final class CachedPath<V> {
+        private final List<Edge<V>> path;
+        private final long version, created;
+
+        CachedPath(List<Edge<V>> path, long version, long created) {
+            this.path = path;
+            this.version = version;
+            this.created = created;
+        }
+    }
+}
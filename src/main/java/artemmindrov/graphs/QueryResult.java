@@ -0,0 +1,49 @@
+package artemmindrov.graphs;
+
+import artemmindrov.graphs.pathfinders.QueryStats;
+import artemmindrov.graphs.pathfinders.QueryStatus;
+
+import java.util.List;
+
+/**
+ * Result of a path query run under a {@link artemmindrov.graphs.pathfinders.QueryContext}, see
+ * {@link Graph#getPath(artemmindrov.graphs.pathfinders.PathFinder, Object, Object,
+ * artemmindrov.graphs.pathfinders.QueryContext)}
+ * @param <V> user defined vertex type
+ */
+public final class QueryResult<V> {
+    private final QueryStatus status;
+    private final List<Edge<V>> path;
+    private final QueryStats stats;
+
+    QueryResult(QueryStatus status, List<Edge<V>> path, QueryStats stats) {
+        this.status = status;
+        this.path = path;
+        this.stats = stats;
+    }
+
+    /**
+     * @return whether the query ran to completion or why it was aborted
+     */
+    public QueryStatus status() { return status; }
+
+    /**
+     * @return a boolean telling if the query was aborted, in which case there is no path
+     */
+    public boolean isAborted() { return status != QueryStatus.COMPLETED; }
+
+    /**
+     * @return the path found, an empty list if there is none or the query was aborted
+     */
+    public List<Edge<V>> path() { return path; }
+
+    /**
+     * @return the work done by the query, up to the moment it was aborted if it was
+     */
+    public QueryStats stats() { return stats; }
+
+    @Override
+    public String toString() {
+        return "QueryResult{status=" + status + ", path=" + path + ", stats=" + stats + "}";
+    }
+}
@@ -0,0 +1,159 @@
+package artemmindrov.graphs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary file format of {@link GraphSnapshot}s. The file starts with a fixed size header (magic number, format
+ * version, flags, vertex and edge counts and the position of the edge arrays), followed by the vertex table in id
+ * order as written by a {@link VertexSerializer}. The CSR arrays (offsets, targets and, for weighted graphs, weights)
+ * follow at an 8 byte aligned position, so that they can be memory-mapped as is when the file is loaded.
+ * All values are big-endian.
+ */
+final class SnapshotFile {
+    private static final int MAGIC = 0x47534e50;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int DIRECTED = 1, WEIGHTED = 2, NEGATIVE_EDGES = 4;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private SnapshotFile() {}
+
+    static <V> void write(GraphSnapshot<V> snapshot, Path file, VertexSerializer<V> serializer) throws IOException {
+        int vertexCount = snapshot.vertexCount(), edgeCount = snapshot.edgeCount();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_SIZE);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+
+            for (int i = 0; i < vertexCount; i++) {
+                serializer.write(snapshot.vertexOf(i), out);
+            }
+
+            out.flush();
+            long edgesAt = align(channel.position());
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            channel.position(edgesAt);
+
+            for (int i = 0; i <= vertexCount; i++) {
+                ensureRemaining(channel, buffer, Integer.BYTES).putInt(i < vertexCount ? snapshot.edgesFrom(i) : edgeCount);
+            }
+
+            for (int e = 0; e < edgeCount; e++) {
+                ensureRemaining(channel, buffer, Integer.BYTES).putInt(snapshot.target(e));
+            }
+
+            if (snapshot.isWeighted()) {
+                flush(channel, buffer);
+                channel.position(align(channel.position()));
+
+                for (int e = 0; e < edgeCount; e++) {
+                    ensureRemaining(channel, buffer, Long.BYTES).putLong(snapshot.weight(e));
+                }
+            }
+
+            flush(channel, buffer);
+
+            int flags = (snapshot.isDirected() ? DIRECTED : 0) | (snapshot.isWeighted() ? WEIGHTED : 0) |
+                    (snapshot.hasNegativeEdges() ? NEGATIVE_EDGES : 0);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(flags).putInt(vertexCount).putInt(edgeCount)
+                    .putInt(0).putLong(edgesAt).flip();
+
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    static <V> GraphSnapshot<V> read(Path file, VertexSerializer<V> serializer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new EOFException("Truncated graph snapshot header in " + file);
+                }
+            }
+
+            header.flip();
+
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported graph snapshot format in " + file);
+            }
+
+            int flags = header.getInt(), vertexCount = header.getInt(), edgeCount = header.getInt();
+            header.getInt();
+            long edgesAt = header.getLong();
+
+            channel.position(HEADER_SIZE);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            @SuppressWarnings("unchecked")
+            V[] vertices = (V[]) new Object[vertexCount];
+            Map<V, Integer> ids = new HashMap<>(vertexCount * 4 / 3 + 1);
+
+            for (int i = 0; i < vertexCount; i++) {
+                vertices[i] = serializer.read(in);
+                ids.put(vertices[i], i);
+            }
+
+            long targetsAt = edgesAt + (vertexCount + 1L) * Integer.BYTES;
+            IntBuffer offsets = map(channel, edgesAt, (vertexCount + 1L) * Integer.BYTES).asIntBuffer();
+            IntBuffer targets = map(channel, targetsAt, (long) edgeCount * Integer.BYTES).asIntBuffer();
+            LongBuffer weights = (flags & WEIGHTED) == 0 ? null :
+                    map(channel, align(targetsAt + (long) edgeCount * Integer.BYTES), (long) edgeCount * Long.BYTES)
+                            .asLongBuffer();
+
+            return new GraphSnapshot<>(vertices, ids, offsets, targets, weights, (flags & DIRECTED) != 0,
+                    (flags & WEIGHTED) != 0, (flags & NEGATIVE_EDGES) != 0);
+        }
+    }
+
+    /**
+     * Mappings stay valid after the channel is closed. A single mapping can't exceed 2GB, which limits the
+     * number of edges of a weighted graph to 2^28.
+     */
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        if (position + size > channel.size()) {
+            throw new EOFException("Truncated graph snapshot edge arrays");
+        }
+
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    }
+
+    private static long align(long position) {
+        return (position + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    private static ByteBuffer ensureRemaining(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush(channel, buffer);
+        }
+
+        return buffer;
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+}
@@ -1,36 +1,48 @@
 package artemmindrov.graphs;
 
-import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps both directed halves of every undirected edge. Inserts of the same vertex pair (in either orientation)
+ * are serialized on one of a fixed number of lock stripes, so by the time {@link #addEdge(Edge)} returns both halves
+ * are present, while inserts of unrelated pairs rarely contend. Reads are not locked and may observe a half that
+ * is being inserted concurrently without its counterpart.
+ */
 class UndirectedEdgeContainer<V> extends EdgeContainer<V> {
-    private ReadWriteLock rwl = new ReentrantReadWriteLock();
-
-    UndirectedEdgeContainer() { super(); }
+    static final int STRIPES = 256;
+    private final Lock[] locks = new Lock[STRIPES];
 
-    @Override
-    Set<Edge<V>> edges() {
-        rwl.readLock().lock();
+    UndirectedEdgeContainer() {
+        super();
 
-        try {
-            return super.edges();
-        } finally {
-            rwl.readLock().unlock();
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
         }
     }
 
     @Override
-    boolean addEdge(final V source, final V sink, long weight) {
-        rwl.writeLock().lock();
+    boolean addEdge(final Edge<V> edge) {
+        Lock lock = lockFor(edge.source(), edge.sink());
+        acquire(lock);
 
         try {
-            return super.addEdge(source, sink, weight) || super.addEdge(sink, source, weight);
+            boolean added = super.addEdge(edge);
+
+            if (added && !edge.source().equals(edge.sink())) {
+                super.addEdge(new Edge<>(edge.sink(), edge.source(), edge.weight()));
+            }
+
+            return added;
         } finally {
-            rwl.writeLock().unlock();
+            lock.unlock();
         }
     }
 
+    private Lock lockFor(V source, V sink) {
+        return locks[stripe(source.hashCode(), sink.hashCode(), STRIPES)];
+    }
+
     @Override
     boolean isDirected() { return false; }
 }
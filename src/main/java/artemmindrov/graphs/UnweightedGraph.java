@@ -1,12 +1,22 @@
 package artemmindrov.graphs;
 
+import artemmindrov.graphs.metrics.GraphMetricsListener;
+import artemmindrov.graphs.pathfinders.BreadthFirst;
+import artemmindrov.graphs.pathfinders.PathFinder;
+import artemmindrov.graphs.pathfinders.ShortestPathTree;
+import artemmindrov.graphs.pathfinders.SingleSourcePathFinder;
+
+import java.util.List;
+
 /**
  * An unweighted graph implementation
  * @param <V> user defined vertex type
  */
 public final class UnweightedGraph<V> extends Graph<V> {
-    UnweightedGraph(EdgeContainer<V> ei) {
-        super(ei);
+    private final SingleSourcePathFinder<V> breadthFirst = new BreadthFirst<>();
+
+    UnweightedGraph(VertexIndex<V> vi, EdgeContainer<V> ei, PathCache<V> pc, GraphMetricsListener<? super V> gml) {
+        super(vi, ei, pc, gml);
     }
 
     @Override
@@ -19,4 +29,22 @@ public final class UnweightedGraph<V> extends Graph<V> {
     public boolean addEdge(final V source, final V sink, long weight) {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * A convenience flavor for {@link artemmindrov.graphs.Graph#getPath(PathFinder, Object, Object)}
+     * using breadth-first search, as all edges have the same weight.
+     */
+    @Override
+    public List<Edge<V>> getPath(V source, V dest) {
+        return getPath(breadthFirst, source, dest);
+    }
+
+    /**
+     * A convenience flavor for {@link artemmindrov.graphs.Graph#shortestPaths(SingleSourcePathFinder, Object)}
+     * using breadth-first search, as all edges have the same weight.
+     */
+    @Override
+    public ShortestPathTree<V> shortestPaths(V source) {
+        return shortestPaths(breadthFirst, source);
+    }
 }
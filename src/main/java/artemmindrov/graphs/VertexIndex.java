@@ -0,0 +1,90 @@
+package artemmindrov.graphs;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interns vertices into stable dense int ids, assigned in the order of insertion starting from 0
+ * @param <V> user defined vertex type
+ */
+final class VertexIndex<V> {
+    private final ConcurrentMap<V, Integer> ids = new ConcurrentHashMap<>();
+    private volatile Object[] vertices = new Object[16];
+    private volatile int size;
+
+    /**
+     * @return true if the vertex was added, false if it was already present
+     */
+    boolean add(V vertex) {
+        if (ids.containsKey(vertex)) {
+            return false;
+        }
+
+        int[] assigned = { -1 };
+        ids.computeIfAbsent(vertex, v -> assigned[0] = append(v));
+        return assigned[0] >= 0;
+    }
+
+    private synchronized int append(V vertex) {
+        int id = size;
+
+        if (id == vertices.length) {
+            vertices = Arrays.copyOf(vertices, id * 2);
+        }
+
+        vertices[id] = vertex;
+        size = id + 1;
+        return id;
+    }
+
+    boolean contains(V vertex) { return ids.containsKey(vertex); }
+
+    /**
+     * @return the vertex's id, or -1 if the vertex is non-existent
+     */
+    int idOf(V vertex) {
+        Integer id = ids.get(vertex);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if no vertex has been assigned the id
+     */
+    @SuppressWarnings("unchecked")
+    V vertexOf(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No vertex with id " + id);
+        }
+
+        return (V) vertices[id];
+    }
+
+    int size() { return size; }
+
+    Set<V> vertices() { return ids.keySet(); }
+
+    /**
+     * @return a spliterator over the vertices with ids in the {@code [0, size())} range at the time of the call,
+     * in id order. It splits evenly, as vertices are kept in an array, and elements in that range never change
+     */
+    @SuppressWarnings("unchecked")
+    Spliterator<V> spliterator() {
+        int count = size;
+        return (Spliterator<V>) Spliterators.spliterator(vertices, 0, count,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    ConcurrentMap<V, Integer> ids() { return ids; }
+
+    /**
+     * @return a copy of the vertices with ids in the {@code [0, count)} range
+     */
+    @SuppressWarnings("unchecked")
+    V[] toArray(int count) {
+        return (V[]) Arrays.copyOf(vertices, count);
+    }
+}
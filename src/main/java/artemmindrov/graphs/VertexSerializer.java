@@ -0,0 +1,52 @@
+package artemmindrov.graphs;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Converts vertices to and from their binary representation when graphs are persisted, see
+ * {@link GraphSnapshot#save(java.nio.file.Path, VertexSerializer)}. Serializers for a few common vertex types are
+ * provided as constants.
+ * @param <V> user defined vertex type
+ */
+public interface VertexSerializer<V> {
+    VertexSerializer<Integer> INTEGER = new VertexSerializer<Integer>() {
+        @Override
+        public void write(Integer vertex, DataOutput out) throws IOException { out.writeInt(vertex); }
+
+        @Override
+        public Integer read(DataInput in) throws IOException { return in.readInt(); }
+    };
+
+    VertexSerializer<Long> LONG = new VertexSerializer<Long>() {
+        @Override
+        public void write(Long vertex, DataOutput out) throws IOException { out.writeLong(vertex); }
+
+        @Override
+        public Long read(DataInput in) throws IOException { return in.readLong(); }
+    };
+
+    /**
+     * Writes strings in modified UTF-8, so they should not be longer than 65535 bytes once encoded
+     */
+    VertexSerializer<String> STRING = new VertexSerializer<String>() {
+        @Override
+        public void write(String vertex, DataOutput out) throws IOException { out.writeUTF(vertex); }
+
+        @Override
+        public String read(DataInput in) throws IOException { return in.readUTF(); }
+    };
+
+    /**
+     * @param vertex the vertex to write
+     * @param out the output to write to
+     */
+    void write(V vertex, DataOutput out) throws IOException;
+
+    /**
+     * @param in the input to read from
+     * @return a vertex equal to the one written by {@link VertexSerializer#write(Object, DataOutput)}
+     */
+    V read(DataInput in) throws IOException;
+}
@@ -1,12 +1,14 @@
 package artemmindrov.graphs;
 
+import artemmindrov.graphs.metrics.GraphMetricsListener;
+
 /**
  * A weighted graph implementation
  * @param <V> user defined vertex type
  */
 public final class WeightedGraph<V> extends Graph<V> {
-    WeightedGraph(EdgeContainer<V> ei) {
-        super(ei);
+    WeightedGraph(VertexIndex<V> vi, EdgeContainer<V> ei, PathCache<V> pc, GraphMetricsListener<? super V> gml) {
+        super(vi, ei, pc, gml);
     }
 
     /**
@@ -0,0 +1,72 @@
+package artemmindrov.graphs.io;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+/**
+ * Writes the edges of a {@link Graph} as a text edge list readable by {@link EdgeListImporter}, one edge per line
+ * as its source, sink and, for weighted graphs, weight. Edges are streamed from {@link Graph#edges()} without
+ * being copied. For undirected graphs, only one of the two halves of every edge is written.
+ * Vertices without edges are not written.
+ * @param <V> user defined vertex type
+ */
+public final class EdgeListExporter<V> {
+    private final Function<V, String> formatter;
+    private final char delimiter;
+
+    /**
+     * Creates an exporter writing tab separated vertices as formatted by {@link Object#toString()}
+     */
+    public EdgeListExporter() {
+        this(String::valueOf, '\t');
+    }
+
+    /**
+     * @param formatter function to convert vertices to tokens, which should not contain delimiters
+     * @param delimiter column delimiter, e.g. ',' for CSV
+     */
+    public EdgeListExporter(Function<V, String> formatter, char delimiter) {
+        this.formatter = formatter;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * @param graph the graph to export
+     * @param file the file to write, replaced if it exists
+     * @return statistics of the export
+     * @throws IOException if the file can't be written
+     */
+    public TransferStats write(Graph<V> graph, Path file) throws IOException {
+        long started = System.nanoTime();
+        long edges = 0;
+
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Edge<V> e : graph.edges()) {
+                if (!graph.isDirected() && graph.idOf(e.source()) > graph.idOf(e.sink())) {
+                    continue;
+                }
+
+                writer.write(formatter.apply(e.source()));
+                writer.write(delimiter);
+                writer.write(formatter.apply(e.sink()));
+
+                if (graph.isWeighted()) {
+                    writer.write(delimiter);
+                    writer.write(Long.toString(e.weight()));
+                }
+
+                writer.write('\n');
+                edges++;
+            }
+        }
+
+        return new TransferStats(edges, edges, System.nanoTime() - started);
+    }
+}
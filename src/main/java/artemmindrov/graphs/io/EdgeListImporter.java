@@ -0,0 +1,303 @@
+package artemmindrov.graphs.io;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Reads text edge lists into a {@link Graph}. Every line describes an edge as its source, sink and, for weighted
+ * graphs, weight, separated by spaces, tabs or commas, so both whitespace separated edge lists and CSV files are
+ * accepted. Empty lines and lines starting with {@code #} or {@code %} are skipped. Edges without a weight get the
+ * default one, and extra columns are ignored, which also means weights are ignored when importing into an unweighted
+ * graph. Vertices are added to the graph as they are encountered.
+ * <p>
+ * The file is read on the calling thread in batches of lines, which are handed over through a bounded queue to
+ * worker threads parsing them and inserting them with {@link Graph#addEdges(java.util.Collection)}, so memory use is
+ * bounded by the queue capacity regardless of the file size.
+ * @param <V> user defined vertex type
+ */
+public final class EdgeListImporter<V> {
+    private static final Batch END = new Batch(0, new ArrayList<>());
+
+    private final Function<String, V> parser;
+    private final int threads, batchSize, queueCapacity, skipLines;
+
+    private EdgeListImporter(Builder<V> builder) {
+        parser = builder.parser;
+        threads = builder.threads;
+        batchSize = builder.batchSize;
+        queueCapacity = builder.queueCapacity;
+        skipLines = builder.skipLines;
+    }
+
+    /**
+     * @param parser function to convert vertex tokens into vertices, e.g. {@code Integer::valueOf}
+     * @return a {@link Builder} instance
+     */
+    public static <V> Builder<V> builder(Function<String, V> parser) {
+        return new Builder<>(parser);
+    }
+
+    /**
+     * @param file UTF-8 encoded edge list
+     * @param graph the graph to add edges to
+     * @return statistics of the import
+     * @throws IOException if the file can't be read or contains a malformed line, in which case some edges may
+     * already have been added
+     */
+    public TransferStats read(Path file, Graph<V> graph) throws IOException {
+        long started = System.nanoTime();
+        BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        LongAdder edges = new LongAdder();
+        Thread[] workers = new Thread[threads];
+        long lines = 0;
+
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(() -> work(queue, graph, edges, failure), "edge-list-importer-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> batch = new ArrayList<>(batchSize);
+            String line;
+
+            while (failure.get() == null && (line = reader.readLine()) != null) {
+                if (++lines <= skipLines) {
+                    continue;
+                }
+
+                batch.add(line);
+
+                if (batch.size() == batchSize) {
+                    queue.put(new Batch(lines - batch.size() + 1, batch));
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                queue.put(new Batch(lines - batch.size() + 1, batch));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new InterruptedIOException("Interrupted while importing " + file));
+        } catch (IOException | RuntimeException e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            finish(queue, workers, failure);
+        }
+
+        Exception e = failure.get();
+
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        } else if (e != null) {
+            throw (RuntimeException) e;
+        }
+
+        return new TransferStats(lines, edges.sum(), System.nanoTime() - started);
+    }
+
+    /**
+     * Workers keep draining the queue after a failure so that the reader never blocks on a full queue
+     */
+    private void work(BlockingQueue<Batch> queue, Graph<V> graph, LongAdder edges, AtomicReference<Exception> failure) {
+        try {
+            for (Batch batch = queue.take(); batch != END; batch = queue.take()) {
+                if (failure.get() != null) {
+                    continue;
+                }
+
+                try {
+                    edges.add(graph.addEdges(parse(batch, graph)));
+                } catch (IOException | RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            failure.compareAndSet(null, new InterruptedIOException("Edge list importer worker interrupted"));
+        }
+    }
+
+    private void finish(BlockingQueue<Batch> queue, Thread[] workers, AtomicReference<Exception> failure) {
+        boolean interrupted = false;
+
+        for (int i = 0; i < workers.length; ) {
+            try {
+                queue.put(END);
+                i++;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        for (int i = 0; i < workers.length; ) {
+            try {
+                workers[i].join();
+                i++;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new InterruptedIOException("Interrupted while importing"));
+        }
+    }
+
+    private List<Edge<V>> parse(Batch batch, Graph<V> graph) throws IOException {
+        List<Edge<V>> edges = new ArrayList<>(batch.lines.size());
+        String[] tokens = new String[3];
+
+        for (int i = 0; i < batch.lines.size(); i++) {
+            String line = batch.lines.get(i);
+            int count = tokenize(line, tokens);
+
+            if (count == 0) {
+                continue;
+            }
+
+            try {
+                if (count < 2) {
+                    throw new IllegalArgumentException("Expected at least source and sink");
+                }
+
+                V source = parser.apply(tokens[0]), sink = parser.apply(tokens[1]);
+                graph.addVertex(source);
+                graph.addVertex(sink);
+                edges.add(graph.isWeighted() && count == 3 ?
+                        Edge.of(source, sink, Long.parseLong(tokens[2])) : Edge.of(source, sink));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Malformed edge at line " + (batch.firstLine + i) + ": " + line, e);
+            }
+        }
+
+        return edges;
+    }
+
+    /**
+     * Splits the line into at most {@code tokens.length} tokens
+     * @return number of tokens found, 0 for empty and comment lines
+     */
+    private static int tokenize(String line, String[] tokens) {
+        int count = 0, i = 0, length = line.length();
+
+        while (count < tokens.length) {
+            while (i < length && isSeparator(line.charAt(i))) {
+                i++;
+            }
+
+            if (i == length || (count == 0 && (line.charAt(i) == '#' || line.charAt(i) == '%'))) {
+                break;
+            }
+
+            int start = i;
+
+            while (i < length && !isSeparator(line.charAt(i))) {
+                i++;
+            }
+
+            tokens[count++] = line.substring(start, i);
+        }
+
+        return count;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == ',' || c == '\r';
+    }
+
+    private static final class Batch {
+        final long firstLine;
+        final List<String> lines;
+
+        Batch(long firstLine, List<String> lines) {
+            this.firstLine = firstLine;
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * Helper class to create {@link EdgeListImporter} instances
+     * @param <V> user defined vertex type
+     */
+    public static class Builder<V> {
+        private final Function<String, V> parser;
+        private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        private int batchSize = 4096, queueCapacity = 16, skipLines;
+
+        Builder(Function<String, V> parser) {
+            this.parser = parser;
+        }
+
+        /**
+         * @param threads number of parsing threads (default is the number of available processors less one)
+         * @return self
+         */
+        public Builder<V> threads(int threads) {
+            if (threads <= 0) {
+                throw new IllegalArgumentException("Thread count should be positive");
+            }
+
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * @param batchSize number of lines handed over to a parsing thread at once (default is 4096)
+         * @return self
+         */
+        public Builder<V> batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size should be positive");
+            }
+
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param queueCapacity maximum number of batches waiting to be parsed (default is 16)
+         * @return self
+         */
+        public Builder<V> queueCapacity(int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("Queue capacity should be positive");
+            }
+
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * @param skipLines number of leading lines to skip, e.g. 1 for CSV files with a header (default is 0)
+         * @return self
+         */
+        public Builder<V> skipLines(int skipLines) {
+            this.skipLines = skipLines;
+            return this;
+        }
+
+        /**
+         * @return {@link EdgeListImporter} instance based on properties set previously
+         */
+        public EdgeListImporter<V> build() {
+            return new EdgeListImporter<>(this);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package artemmindrov.graphs.io;
+
+/**
+ * Summary of a finished import or export, see {@link EdgeListImporter} and {@link EdgeListExporter}
+ */
+public final class TransferStats {
+    private final long lines, edges, elapsedNanos;
+
+    TransferStats(long lines, long edges, long elapsedNanos) {
+        this.lines = lines;
+        this.edges = edges;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return number of lines read or written, including comments and skipped lines
+     */
+    public long lines() { return lines; }
+
+    /**
+     * @return number of edges added to the graph or written to the file
+     */
+    public long edges() { return edges; }
+
+    /**
+     * @return wall clock time the transfer took
+     */
+    public long elapsedNanos() { return elapsedNanos; }
+
+    /**
+     * @return throughput of the transfer, 0 if it took no measurable time
+     */
+    public double edgesPerSecond() {
+        return elapsedNanos == 0 ? 0 : edges * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TransferStats{lines=%d, edges=%d, elapsed=%.3fs, edgesPerSecond=%.0f}",
+                lines, edges, elapsedNanos / 1e9, edgesPerSecond());
+    }
+}
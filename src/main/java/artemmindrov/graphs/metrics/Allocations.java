@@ -0,0 +1,35 @@
+package artemmindrov.graphs.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures per-thread heap allocation for {@link GraphMetricsListener#allocatedBytes()}. The thread MXBean is looked
+ * up when this class is first used, so graphs without a listener never touch the management subsystem.
+ */
+final class Allocations {
+    private static final com.sun.management.ThreadMXBean THREADS = allocationMXBean();
+
+    private Allocations() {
+    }
+
+    /**
+     * @return bytes allocated by the current thread so far, -1 if the JVM does not support measuring them
+     */
+    static long allocatedBytes() {
+        return THREADS != null ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMXBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,84 @@
+package artemmindrov.graphs.metrics;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Aggregated measurements of the queries of a single path finder
+ */
+public final class FinderMetrics implements FinderMetricsMXBean {
+    private final Histogram latency = new Histogram();
+    private final Histogram settled = new Histogram();
+    private final Histogram relaxed = new Histogram();
+    private final Histogram allocated = new Histogram();
+    private final AtomicReference<QueryMetrics<?>> slowest = new AtomicReference<>();
+
+    FinderMetrics() {}
+
+    void record(QueryMetrics<?> query) {
+        latency.record(query.nanos());
+        settled.record(query.settledVertices());
+        relaxed.record(query.relaxedEdges());
+
+        if (query.allocatedBytes() >= 0) {
+            allocated.record(query.allocatedBytes());
+        }
+
+        QueryMetrics<?> current = slowest.get();
+
+        while ((current == null || current.nanos() < query.nanos()) && !slowest.compareAndSet(current, query)) {
+            current = slowest.get();
+        }
+    }
+
+    public Histogram latency() { return latency; }
+
+    public Histogram settledVertices() { return settled; }
+
+    public Histogram relaxedEdges() { return relaxed; }
+
+    /**
+     * @return histogram of bytes allocated per query, empty if the JVM does not support measuring them
+     */
+    public Histogram allocatedBytes() { return allocated; }
+
+    /**
+     * @return the slowest query so far, null if there were none
+     */
+    public QueryMetrics<?> slowestQuery() { return slowest.get(); }
+
+    @Override
+    public long getQueries() { return latency.count(); }
+
+    @Override
+    public double getMeanLatencyNanos() { return latency.mean(); }
+
+    @Override
+    public long getP50LatencyNanos() { return latency.percentile(0.5); }
+
+    @Override
+    public long getP99LatencyNanos() { return latency.percentile(0.99); }
+
+    @Override
+    public long getMaxLatencyNanos() { return latency.max(); }
+
+    @Override
+    public double getMeanSettledVertices() { return settled.mean(); }
+
+    @Override
+    public long getP99SettledVertices() { return settled.percentile(0.99); }
+
+    @Override
+    public double getMeanRelaxedEdges() { return relaxed.mean(); }
+
+    @Override
+    public long getP99RelaxedEdges() { return relaxed.percentile(0.99); }
+
+    @Override
+    public double getMeanAllocatedBytes() { return allocated.mean(); }
+
+    @Override
+    public long getP99AllocatedBytes() { return allocated.percentile(0.99); }
+
+    @Override
+    public String getSlowestQuery() { return String.valueOf(slowest.get()); }
+}
@@ -0,0 +1,33 @@
+package artemmindrov.graphs.metrics;
+
+/**
+ * JMX view of the queries of a single path finder, see {@link MetricsRecorder#registerMBeans(String)}
+ */
+public interface FinderMetricsMXBean {
+    long getQueries();
+
+    double getMeanLatencyNanos();
+
+    long getP50LatencyNanos();
+
+    long getP99LatencyNanos();
+
+    long getMaxLatencyNanos();
+
+    double getMeanSettledVertices();
+
+    long getP99SettledVertices();
+
+    double getMeanRelaxedEdges();
+
+    long getP99RelaxedEdges();
+
+    double getMeanAllocatedBytes();
+
+    long getP99AllocatedBytes();
+
+    /**
+     * @return description of the slowest query so far
+     */
+    String getSlowestQuery();
+}
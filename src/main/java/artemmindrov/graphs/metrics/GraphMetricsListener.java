@@ -0,0 +1,38 @@
+package artemmindrov.graphs.metrics;
+
+/**
+ * Receives measurements of graph operations, see {@link artemmindrov.graphs.Graph.Builder#metrics(GraphMetricsListener)}.
+ * Measurements are delivered on the thread performing the operation, so listeners may be called concurrently and
+ * should return quickly. {@link MetricsRecorder} aggregates them into histograms exposed over JMX.
+ * @param <V> user defined vertex type
+ */
+public interface GraphMetricsListener<V> {
+    /**
+     * Called after a path query computed by a path finder has completed, cached results are not reported
+     * @param query measurements of the query
+     */
+    default void queryCompleted(QueryMetrics<? extends V> query) {}
+
+    /**
+     * Called after a call adding one or more edges has completed
+     * @param count number of edges actually added
+     * @param nanos time the call took
+     */
+    default void edgesAdded(int count, long nanos) {}
+
+    /**
+     * Called after an edge container lock has been acquired by an insert
+     * @param nanos time spent waiting for the lock, 0 if it was not contended
+     */
+    default void lockWaited(long nanos) {}
+
+    /**
+     * Called before and after every query reported to {@link GraphMetricsListener#queryCompleted(QueryMetrics)}
+     * to measure {@link QueryMetrics#allocatedBytes()}. Listeners not interested in allocation may return -1 to
+     * skip the measurement.
+     * @return bytes allocated by the current thread so far, -1 if the JVM does not support measuring them
+     */
+    default long allocatedBytes() {
+        return Allocations.allocatedBytes();
+    }
+}
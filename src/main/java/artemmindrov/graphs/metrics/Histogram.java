@@ -0,0 +1,66 @@
+package artemmindrov.graphs.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of non-negative values with power of two buckets: bucket {@code i} counts values in the
+ * {@code [2^(i-1), 2^i)} range, and bucket 0 counts zeroes. Recording is a couple of {@link LongAdder} increments,
+ * and percentiles are accurate to within a factor of two, which is enough to tell typical values from outliers.
+ * Negative values are recorded as 0.
+ */
+public final class Histogram {
+    private static final int BUCKETS = Long.SIZE + 1;
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder(), sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    public Histogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param value the value to record
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(v)].increment();
+        count.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    public long count() { return count.sum(); }
+
+    public long sum() { return sum.sum(); }
+
+    public long max() { return max.get(); }
+
+    /**
+     * @return mean of the recorded values, 0 if there are none
+     */
+    public double mean() {
+        long n = count();
+        return n == 0 ? 0 : (double) sum() / n;
+    }
+
+    /**
+     * @param fraction percentile as a fraction in the {@code (0, 1]} range, e.g. 0.99
+     * @return upper bound of the bucket the percentile falls into, capped by the maximum, 0 if there are no values
+     */
+    public long percentile(double fraction) {
+        long rank = (long) Math.ceil(fraction * count()), seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i].sum();
+
+            if (seen >= rank && seen > 0) {
+                return i == 0 ? 0 : Math.min(i == Long.SIZE ? Long.MAX_VALUE : (1L << i) - 1, max());
+            }
+        }
+
+        return max();
+    }
+}
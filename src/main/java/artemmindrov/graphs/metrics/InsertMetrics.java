@@ -0,0 +1,73 @@
+package artemmindrov.graphs.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated measurements of the inserts into a graph. Lock waits are only measured for edge containers which
+ * lock on insert, i.e. those of undirected and off-heap graphs.
+ */
+public final class InsertMetrics implements InsertMetricsMXBean {
+    private final long created = System.nanoTime();
+    private final LongAdder edges = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final Histogram inserts = new Histogram();
+    private final Histogram lockWaits = new Histogram();
+
+    InsertMetrics() {}
+
+    void recordInsert(int count, long nanos) {
+        edges.add(count);
+        inserts.record(nanos);
+    }
+
+    void recordLockWait(long nanos) {
+        lockWaits.record(nanos);
+
+        if (nanos > 0) {
+            contended.increment();
+        }
+    }
+
+    /**
+     * @return histogram of the durations of insert calls, a batch being a single call
+     */
+    public Histogram insertNanos() { return inserts; }
+
+    /**
+     * @return histogram of lock wait times, including zeroes for uncontended acquisitions
+     */
+    public Histogram lockWaitNanos() { return lockWaits; }
+
+    @Override
+    public long getEdgesAdded() { return edges.sum(); }
+
+    @Override
+    public double getEdgesPerSecond() {
+        long elapsed = System.nanoTime() - created;
+        return elapsed <= 0 ? 0 : edges.sum() * 1e9 / elapsed;
+    }
+
+    @Override
+    public long getInsertCalls() { return inserts.count(); }
+
+    @Override
+    public double getMeanInsertNanos() { return inserts.mean(); }
+
+    @Override
+    public long getP99InsertNanos() { return inserts.percentile(0.99); }
+
+    @Override
+    public long getLockAcquisitions() { return lockWaits.count(); }
+
+    @Override
+    public long getContendedLockAcquisitions() { return contended.sum(); }
+
+    @Override
+    public double getMeanLockWaitNanos() { return lockWaits.mean(); }
+
+    @Override
+    public long getP99LockWaitNanos() { return lockWaits.percentile(0.99); }
+
+    @Override
+    public long getMaxLockWaitNanos() { return lockWaits.max(); }
+}
@@ -0,0 +1,29 @@
+package artemmindrov.graphs.metrics;
+
+/**
+ * JMX view of the inserts into a graph, see {@link MetricsRecorder#registerMBeans(String)}
+ */
+public interface InsertMetricsMXBean {
+    long getEdgesAdded();
+
+    /**
+     * @return edges added per second since the recorder was created
+     */
+    double getEdgesPerSecond();
+
+    long getInsertCalls();
+
+    double getMeanInsertNanos();
+
+    long getP99InsertNanos();
+
+    long getLockAcquisitions();
+
+    long getContendedLockAcquisitions();
+
+    double getMeanLockWaitNanos();
+
+    long getP99LockWaitNanos();
+
+    long getMaxLockWaitNanos();
+}
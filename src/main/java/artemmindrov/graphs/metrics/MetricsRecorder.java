@@ -0,0 +1,116 @@
+package artemmindrov.graphs.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A {@link GraphMetricsListener} aggregating measurements into {@link Histogram}s, per path finder for queries and
+ * per graph for inserts. The aggregates can be read directly or exposed as MXBeans under the
+ * {@code artemmindrov.graphs} JMX domain.
+ */
+public final class MetricsRecorder implements GraphMetricsListener<Object> {
+    private static final String DOMAIN = "artemmindrov.graphs";
+
+    private final ConcurrentMap<String, FinderMetrics> finders = new ConcurrentHashMap<>();
+    private final InsertMetrics inserts = new InsertMetrics();
+    private final List<ObjectName> registered = new CopyOnWriteArrayList<>();
+    private volatile String graphName;
+
+    @Override
+    public void queryCompleted(QueryMetrics<?> query) {
+        FinderMetrics metrics = finders.get(query.finder());
+
+        if (metrics == null) {
+            metrics = finders.computeIfAbsent(query.finder(), name -> register(name, new FinderMetrics()));
+        }
+
+        metrics.record(query);
+    }
+
+    @Override
+    public void edgesAdded(int count, long nanos) {
+        inserts.recordInsert(count, nanos);
+    }
+
+    @Override
+    public void lockWaited(long nanos) {
+        inserts.recordLockWait(nanos);
+    }
+
+    /**
+     * @return an immutable view of the query measurements, keyed by path finder name
+     */
+    public Map<String, FinderMetrics> finders() {
+        return Collections.unmodifiableMap(finders);
+    }
+
+    public InsertMetrics inserts() { return inserts; }
+
+    /**
+     * Registers the insert metrics as {@code artemmindrov.graphs:type=Graph,name=<graphName>} and the metrics of every
+     * path finder, including those first queried later, as
+     * {@code artemmindrov.graphs:type=PathFinder,graph=<graphName>,name=<finder>} with the platform MBean server
+     * @param graphName name distinguishing the graph from other graphs in the JVM
+     * @throws JMException if the MBeans can't be registered, e.g. because the name is taken
+     * @throws IllegalStateException if the MBeans have already been registered
+     */
+    public synchronized void registerMBeans(String graphName) throws JMException {
+        if (this.graphName != null) {
+            throw new IllegalStateException("MBeans are already registered as " + this.graphName);
+        }
+
+        register(new ObjectName(DOMAIN + ":type=Graph,name=" + ObjectName.quote(graphName)), inserts);
+        this.graphName = graphName;
+
+        for (Map.Entry<String, FinderMetrics> e : finders.entrySet()) {
+            register(e.getKey(), e.getValue());
+        }
+    }
+
+    /**
+     * Unregisters all MBeans registered by {@link MetricsRecorder#registerMBeans(String)}
+     */
+    public synchronized void unregisterMBeans() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        for (ObjectName name : registered) {
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        }
+
+        registered.clear();
+        graphName = null;
+    }
+
+    private synchronized FinderMetrics register(String finder, FinderMetrics metrics) {
+        String graph = graphName;
+
+        if (graph != null) {
+            try {
+                register(new ObjectName(DOMAIN + ":type=PathFinder,graph=" + ObjectName.quote(graph) +
+                        ",name=" + ObjectName.quote(finder)), metrics);
+            } catch (JMException e) {
+                // the metrics are still recorded and readable through finders()
+            }
+        }
+
+        return metrics;
+    }
+
+    private void register(ObjectName name, Object mbean) throws JMException {
+        // a finder first queried while registering may be seen twice
+        if (!registered.contains(name)) {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, name);
+            registered.add(name);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package artemmindrov.graphs.metrics;
+
+/**
+ * Measurements of a single path query, see {@link GraphMetricsListener#queryCompleted(QueryMetrics)}
+ * @param <V> user defined vertex type
+ */
+public final class QueryMetrics<V> {
+    private final String finder;
+    private final V source, dest;
+    private final long nanos, settledVertices, relaxedEdges, allocatedBytes;
+
+    /**
+     * @param finder name of the path finder
+     * @param source source vertex of the query
+     * @param dest end vertex of the query, null for single-source queries
+     * @param nanos time the query took
+     * @param settledVertices number of vertices settled by the search
+     * @param relaxedEdges number of edges relaxed by the search
+     * @param allocatedBytes bytes allocated on the querying thread, -1 if the JVM does not support measuring them
+     */
+    public QueryMetrics(String finder, V source, V dest, long nanos, long settledVertices, long relaxedEdges,
+                        long allocatedBytes) {
+        this.finder = finder;
+        this.source = source;
+        this.dest = dest;
+        this.nanos = nanos;
+        this.settledVertices = settledVertices;
+        this.relaxedEdges = relaxedEdges;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * @return name of the path finder, its simple class name for built-in finders
+     */
+    public String finder() { return finder; }
+
+    public V source() { return source; }
+
+    /**
+     * @return end vertex of the query, null for single-source queries
+     */
+    public V dest() { return dest; }
+
+    public long nanos() { return nanos; }
+
+    public long settledVertices() { return settledVertices; }
+
+    public long relaxedEdges() { return relaxedEdges; }
+
+    /**
+     * @return bytes allocated on the querying thread, -1 if the JVM does not support measuring them
+     */
+    public long allocatedBytes() { return allocatedBytes; }
+
+    @Override
+    public String toString() {
+        return "QueryMetrics{finder=" + finder + ", source=" + source + ", dest=" + dest + ", nanos=" + nanos +
+                ", settled=" + settledVertices + ", relaxed=" + relaxedEdges + ", allocated=" + allocatedBytes + "}";
+    }
+}
@@ -0,0 +1,83 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class AStar<V> implements PathFinder<V> {
+    private final Heuristic<V> heuristic;
+
+    /**
+     * @param heuristic an admissible estimate of the distance between vertices
+     */
+    public AStar(Heuristic<V> heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    /**
+     * This is an implementation of the <a href="https://en.wikipedia.org/wiki/A*_search_algorithm">A*</a> algorithm
+     * backed by an indexed binary heap. Vertices are explored in the order of their distance from {@code source}
+     * plus the heuristic's estimate of their distance to {@code dest}, and the search stops as soon as {@code dest}
+     * is reached. Vertices are reopened if a shorter path to them is found later, so the path is the shortest one
+     * with any admissible heuristic, though consistent heuristics explore fewer vertices.
+     * @throws IllegalStateException in case an edge with negative weight is encountered
+     */
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest) {
+        return getPath(graph, source, dest, new QueryStats());
+    }
+
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest, QueryStats stats) {
+        int n = graph.vertexCount();
+        int from = graph.idOf(source), to = graph.idOf(dest);
+        long[] distances = new long[n];
+        long[] estimates = new long[n];
+        int[] predecessors = new int[n];
+        Edge<V>[] predecessorEdges = Paths.edges(n);
+        IndexedHeap queue = new IndexedHeap(n);
+
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[from] = 0;
+        estimates[from] = heuristic.estimate(source, dest);
+        predecessors[from] = -1;
+        queue.offer(from, estimates[from]);
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+
+            if (u == to) {
+                return Paths.path(predecessors, predecessorEdges, to);
+            }
+
+            stats.settle();
+
+            for (Edge<V> e : graph.outEdges(graph.vertexOf(u))) {
+                stats.relax();
+
+                if (e.weight() < 0) {
+                    throw new IllegalStateException("Negative edge weight detected");
+                }
+
+                int v = graph.idOf(e.sink());
+                long candidate = distances[u] + e.weight();
+
+                if (v < n && candidate < distances[v]) {
+                    if (distances[v] == Long.MAX_VALUE) {
+                        estimates[v] = heuristic.estimate(e.sink(), dest);
+                    }
+
+                    distances[v] = candidate;
+                    predecessors[v] = u;
+                    predecessorEdges[v] = e;
+                    queue.offer(v, candidate + estimates[v]);
+                }
+            }
+        }
+
+        return new ArrayList<>();
+    }
+}
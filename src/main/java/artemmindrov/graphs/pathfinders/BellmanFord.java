@@ -2,56 +2,140 @@ package artemmindrov.graphs.pathfinders;
 
 import artemmindrov.graphs.Edge;
 import artemmindrov.graphs.Graph;
+import artemmindrov.graphs.GraphSnapshot;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
-public class BellmanFord<V> implements PathFinder<V> {
+public class BellmanFord<V> implements SingleSourcePathFinder<V>, SnapshotPathFinder<V> {
     /**
      * This is an implementation of the <a href="https://en.wikipedia.org/wiki/Bellman%E2%80%93Ford_algorithm">Bellman-Ford</a> algorithm.
+     * Relaxation rounds stop as soon as a round makes no update. See {@link Spfa} for a queue-based flavor.
      * @throws IllegalStateException in case a negative weight cycle is detected
      */
     @Override
     public List<Edge<V>> getPath(Graph<V> graph, V source, V dest) {
-        Set<V> vertices = graph.vertices();
-        Map<V, Double> distances = vertices.stream().collect(Collectors.toMap(e -> e, e -> Double.POSITIVE_INFINITY));
-        Map<V, Edge<V>> predecessors = new HashMap<>();
-        distances.put(source, 0d);
-
-        for (int i = 0; i < vertices.size(); i++) {
-            for (Edge<V> e : graph.edges()) {
-                double distance = distances.get(e.source()) + e.weight();
-                V sink = e.sink();
-
-                if (distance < distances.get(sink)) {
-                    distances.put(sink, distance);
-                    predecessors.put(sink, e);
+        return getPath(graph, source, dest, new QueryStats());
+    }
+
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest, QueryStats stats) {
+        return shortestPaths(graph, source, stats).pathTo(dest);
+    }
+
+    /**
+     * Computes shortest paths to all vertices reachable from {@code source} with the same algorithm
+     */
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source) {
+        return shortestPaths(graph, source, new QueryStats());
+    }
+
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source, QueryStats stats) {
+        int n = graph.vertexCount();
+        int from = graph.idOf(source);
+        long[] distances = new long[n];
+        int[] predecessors = new int[n];
+        Edge<V>[] predecessorEdges = Paths.edges(n);
+
+        Arrays.fill(distances, Long.MAX_VALUE);
+        Arrays.fill(predecessors, -1);
+        distances[from] = 0;
+
+        boolean updated = true;
+
+        for (int i = 0; i < n && updated; i++) {
+            updated = relax(graph, distances, predecessors, predecessorEdges, stats);
+        }
+
+        if (updated && relax(graph, distances, predecessors, predecessorEdges, stats)) {
+            throw new IllegalStateException("Negative weight cycle detected");
+        }
+
+        return new ShortestPathTree<>(graph, source, distances, predecessors, predecessorEdges);
+    }
+
+    private boolean relax(Graph<V> graph, long[] distances, int[] predecessors, Edge<V>[] predecessorEdges,
+                          QueryStats stats) {
+        boolean updated = false;
+
+        for (int u = 0; u < distances.length; u++) {
+            if (distances[u] == Long.MAX_VALUE) {
+                continue;
+            }
+
+            stats.settle();
+
+            for (Edge<V> e : graph.outEdges(graph.vertexOf(u))) {
+                stats.relax();
+                int v = graph.idOf(e.sink());
+                long distance = distances[u] + e.weight();
+
+                if (v < distances.length && distance < distances[v]) {
+                    distances[v] = distance;
+                    predecessors[v] = u;
+                    predecessorEdges[v] = e;
+                    updated = true;
                 }
             }
         }
 
-        for (Edge<V> e : graph.edges()) {
-            if (distances.get(e.source()) + e.weight() < distances.get(e.sink())) {
-                throw new IllegalStateException("Negative weight cycle detected");
-            }
+        return updated;
+    }
+
+    /**
+     * A flavor of {@link BellmanFord#getPath(Graph, Object, Object)} operating on the snapshot's primitive arrays
+     * @throws IllegalStateException in case a negative weight cycle is detected
+     */
+    @Override
+    public List<Edge<V>> getPath(GraphSnapshot<V> snapshot, V source, V dest) {
+        int n = snapshot.vertexCount();
+        int from = snapshot.idOf(source), to = snapshot.idOf(dest);
+        long[] distances = new long[n];
+        int[] predecessors = new int[n];
+        int[] predecessorEdges = new int[n];
+
+        Arrays.fill(distances, Long.MAX_VALUE);
+        Arrays.fill(predecessors, -1);
+        distances[from] = 0;
+
+        boolean updated = true;
+
+        for (int i = 0; i < n && updated; i++) {
+            updated = relax(snapshot, distances, predecessors, predecessorEdges);
+        }
+
+        if (updated && relax(snapshot, distances, predecessors, predecessorEdges)) {
+            throw new IllegalStateException("Negative weight cycle detected");
         }
 
-        List<Edge<V>> path = new ArrayList<>();
-        Edge<V> e = predecessors.get(dest);
+        return distances[to] == Long.MAX_VALUE
+                ? new ArrayList<>() : Paths.path(snapshot, predecessors, predecessorEdges, to);
+    }
+
+    private boolean relax(GraphSnapshot<V> snapshot, long[] distances, int[] predecessors, int[] predecessorEdges) {
+        boolean updated = false;
 
-        while (e != null) {
-            path.add(0, e);
+        for (int u = 0; u < distances.length; u++) {
+            if (distances[u] == Long.MAX_VALUE) {
+                continue;
+            }
 
-            if (e.isFrom(source))
-                break;
+            for (int e = snapshot.edgesFrom(u), end = snapshot.edgesTo(u); e < end; e++) {
+                int v = snapshot.target(e);
+                long distance = distances[u] + snapshot.weight(e);
 
-            e = predecessors.get(e.source());
+                if (distance < distances[v]) {
+                    distances[v] = distance;
+                    predecessors[v] = u;
+                    predecessorEdges[v] = e;
+                    updated = true;
+                }
+            }
         }
 
-        return path;
+        return updated;
     }
 }
@@ -0,0 +1,97 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BidirectionalBreadthFirst<V> implements PathFinder<V> {
+    /**
+     * This is an implementation of the bidirectional breadth-first search: a forward search from {@code source}
+     * along outgoing edges and a backward search from {@code dest} along incoming edges expand one level at a time,
+     * always the one with the smaller frontier, until they meet. Edge weights are ignored, so the path found has
+     * the least number of edges.
+     */
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest) {
+        return getPath(graph, source, dest, new QueryStats());
+    }
+
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest, QueryStats stats) {
+        int n = graph.vertexCount();
+        Search<V> forward = new Search<>(n, graph.idOf(source)), backward = new Search<>(n, graph.idOf(dest));
+
+        while (forward.frontierSize > 0 && backward.frontierSize > 0) {
+            boolean isForward = forward.frontierSize <= backward.frontierSize;
+            Search<V> search = isForward ? forward : backward, other = isForward ? backward : forward;
+            int best = Integer.MAX_VALUE, meet = -1, nextSize = 0;
+
+            for (int i = 0; i < search.frontierSize; i++) {
+                int u = search.frontier[i];
+                V vertex = graph.vertexOf(u);
+                stats.settle();
+
+                for (Edge<V> e : isForward ? graph.outEdges(vertex) : graph.inEdges(vertex)) {
+                    stats.relax();
+                    int v = graph.idOf(isForward ? e.sink() : e.source());
+
+                    if (v >= n) {
+                        continue;
+                    }
+
+                    if (search.depths[v] < 0) {
+                        search.depths[v] = search.depth + 1;
+                        search.parents[v] = u;
+                        search.parentEdges[v] = e;
+                        search.next[nextSize++] = v;
+                    }
+
+                    if (other.depths[v] >= 0 && search.depths[v] + other.depths[v] < best) {
+                        best = search.depths[v] + other.depths[v];
+                        meet = v;
+                    }
+                }
+            }
+
+            if (meet >= 0) {
+                return Paths.path(forward.parents, forward.parentEdges, backward.parents, backward.parentEdges, meet);
+            }
+
+            search.advance(nextSize);
+        }
+
+        return new ArrayList<>();
+    }
+
+    private static final class Search<V> {
+        final int[] depths;
+        final int[] parents;
+        final Edge<V>[] parentEdges;
+        int[] frontier, next;
+        int frontierSize = 1, depth;
+
+        Search(int n, int origin) {
+            depths = new int[n];
+            parents = new int[n];
+            parentEdges = Paths.edges(n);
+            frontier = new int[n];
+            next = new int[n];
+
+            Arrays.fill(depths, -1);
+            depths[origin] = 0;
+            parents[origin] = -1;
+            frontier[0] = origin;
+        }
+
+        void advance(int nextSize) {
+            int[] swap = frontier;
+            frontier = next;
+            next = swap;
+            frontierSize = nextSize;
+            depth++;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BidirectionalDijkstra<V> implements PathFinder<V> {
+    /**
+     * This is an implementation of the bidirectional flavor of the
+     * <a href="https://en.wikipedia.org/wiki/Dijkstra%27s_algorithm">Dijkstra</a> algorithm: a forward search from
+     * {@code source} along outgoing edges and a backward search from {@code dest} along incoming edges take turns,
+     * each time advancing the one with the smaller queue head, until the sum of both queue heads proves that no
+     * path shorter than the best one seen at the frontiers' meeting points remains.
+     * @throws IllegalStateException in case an edge with negative weight is encountered
+     */
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest) {
+        return getPath(graph, source, dest, new QueryStats());
+    }
+
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest, QueryStats stats) {
+        int n = graph.vertexCount();
+        int from = graph.idOf(source), to = graph.idOf(dest);
+        Search<V> forward = new Search<>(n, from), backward = new Search<>(n, to);
+        long best = Long.MAX_VALUE;
+        int meet = -1;
+
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty()
+                && forward.queue.peekKey() + backward.queue.peekKey() < best) {
+            boolean isForward = forward.queue.peekKey() <= backward.queue.peekKey();
+            Search<V> search = isForward ? forward : backward, other = isForward ? backward : forward;
+            long distance = search.queue.peekKey();
+            int u = search.queue.poll();
+            V vertex = graph.vertexOf(u);
+            stats.settle();
+
+            for (Edge<V> e : isForward ? graph.outEdges(vertex) : graph.inEdges(vertex)) {
+                stats.relax();
+
+                if (e.weight() < 0) {
+                    throw new IllegalStateException("Negative edge weight detected");
+                }
+
+                int v = graph.idOf(isForward ? e.sink() : e.source());
+                long candidate = distance + e.weight();
+
+                if (v >= n) {
+                    continue;
+                }
+
+                if (candidate < search.distances[v]) {
+                    search.distances[v] = candidate;
+                    search.parents[v] = u;
+                    search.parentEdges[v] = e;
+                    search.queue.offer(v, candidate);
+                }
+
+                if (other.distances[v] != Long.MAX_VALUE && candidate + other.distances[v] < best) {
+                    best = candidate + other.distances[v];
+                    meet = v;
+                }
+            }
+        }
+
+        return meet < 0 ? new ArrayList<>()
+                : Paths.path(forward.parents, forward.parentEdges, backward.parents, backward.parentEdges, meet);
+    }
+
+    private static final class Search<V> {
+        final long[] distances;
+        final int[] parents;
+        final Edge<V>[] parentEdges;
+        final IndexedHeap queue;
+
+        Search(int n, int origin) {
+            distances = new long[n];
+            parents = new int[n];
+            parentEdges = Paths.edges(n);
+            queue = new IndexedHeap(n);
+
+            Arrays.fill(distances, Long.MAX_VALUE);
+            distances[origin] = 0;
+            parents[origin] = -1;
+            queue.offer(origin, 0);
+        }
+    }
+}
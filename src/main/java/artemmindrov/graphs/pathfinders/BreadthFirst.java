@@ -0,0 +1,132 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class BreadthFirst<V> implements SingleSourcePathFinder<V> {
+    /**
+     * Switch to bottom-up once the frontier's edges outnumber the unexplored edges divided by this factor
+     */
+    private static final int ALPHA = 14;
+
+    /**
+     * Switch back to top-down once the frontier shrinks below the vertex count divided by this factor
+     */
+    private static final int BETA = 24;
+
+    /**
+     * This is an implementation of the
+     * <a href="https://parlab.eecs.berkeley.edu/sites/all/parlab/files/main.pdf">direction-optimizing</a>
+     * breadth-first search. Small frontiers are expanded top-down along outgoing edges, while large ones are
+     * expanded bottom-up, with every unvisited vertex looking for a parent in the frontier along its incoming edges.
+     * Edge weights are ignored, so the path found has the least number of edges, which makes this the shortest path
+     * for unweighted graphs.
+     */
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest) {
+        return getPath(graph, source, dest, new QueryStats());
+    }
+
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest, QueryStats stats) {
+        return search(graph, source, graph.idOf(dest), stats).pathTo(dest);
+    }
+
+    /**
+     * Computes shortest paths to all vertices reachable from {@code source}. Distances are numbers of edges,
+     * regardless of weights
+     */
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source) {
+        return shortestPaths(graph, source, new QueryStats());
+    }
+
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source, QueryStats stats) {
+        return search(graph, source, -1, stats);
+    }
+
+    private ShortestPathTree<V> search(Graph<V> graph, V source, int to, QueryStats stats) {
+        int n = graph.vertexCount();
+        int from = graph.idOf(source);
+        long[] distances = new long[n];
+        int[] predecessors = new int[n];
+        Edge<V>[] predecessorEdges = Paths.edges(n);
+        int[] frontier = new int[n], next = new int[n];
+        int frontierSize = 1, depth = 0;
+        long unexplored = graph.edges().size();
+        boolean bottomUp = false;
+
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[from] = 0;
+        predecessors[from] = -1;
+        frontier[0] = from;
+
+        while (frontierSize > 0) {
+            long frontierEdges = 0;
+
+            for (int i = 0; i < frontierSize; i++) {
+                frontierEdges += graph.outDegree(graph.vertexOf(frontier[i]));
+            }
+
+            bottomUp = bottomUp ? frontierSize >= n / BETA : frontierEdges * ALPHA > unexplored;
+            unexplored -= frontierEdges;
+            int nextSize = 0;
+
+            if (bottomUp) {
+                for (int v = 0; v < n; v++) {
+                    if (distances[v] != Long.MAX_VALUE) {
+                        continue;
+                    }
+
+                    stats.settle();
+
+                    for (Edge<V> e : graph.inEdges(graph.vertexOf(v))) {
+                        stats.relax();
+                        int u = graph.idOf(e.source());
+
+                        if (u < n && distances[u] == depth) {
+                            distances[v] = depth + 1;
+                            predecessors[v] = u;
+                            predecessorEdges[v] = e;
+                            next[nextSize++] = v;
+                            break;
+                        }
+                    }
+                }
+            } else {
+                for (int i = 0; i < frontierSize; i++) {
+                    int u = frontier[i];
+                    stats.settle();
+
+                    for (Edge<V> e : graph.outEdges(graph.vertexOf(u))) {
+                        stats.relax();
+                        int v = graph.idOf(e.sink());
+
+                        if (v < n && distances[v] == Long.MAX_VALUE) {
+                            distances[v] = depth + 1;
+                            predecessors[v] = u;
+                            predecessorEdges[v] = e;
+                            next[nextSize++] = v;
+                        }
+                    }
+                }
+            }
+
+            if (to >= 0 && distances[to] != Long.MAX_VALUE) {
+                break;
+            }
+
+            int[] swap = frontier;
+            frontier = next;
+            next = swap;
+            frontierSize = nextSize;
+            depth++;
+        }
+
+        return new ShortestPathTree<>(graph, source, distances, predecessors, predecessorEdges);
+    }
+}
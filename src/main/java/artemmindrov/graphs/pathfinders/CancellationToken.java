@@ -0,0 +1,20 @@
+package artemmindrov.graphs.pathfinders;
+
+/**
+ * A flag to cancel queries running under a {@link QueryContext} from another thread. A token can be shared by
+ * any number of queries, and stays cancelled once cancelled.
+ */
+public final class CancellationToken {
+    private volatile boolean isCancelled;
+
+    /**
+     * Requests queries using this token to stop. Queries notice the request within a bounded amount of work, see
+     * {@link QueryContext}
+     */
+    public void cancel() { isCancelled = true; }
+
+    /**
+     * @return a boolean telling if {@link CancellationToken#cancel()} has been called
+     */
+    public boolean isCancelled() { return isCancelled; }
+}
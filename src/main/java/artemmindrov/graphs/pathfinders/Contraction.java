@@ -0,0 +1,346 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.GraphSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Preprocessing of a {@link ContractionHierarchy}. Vertices are contracted in rounds: each round contracts an
+ * independent set of vertices whose priority (the number of shortcuts their contraction would add, less the number
+ * of arcs it would remove, plus the number of neighbors already contracted) is lower than that of all their
+ * neighbors. As no two vertices of a set are adjacent, their witness searches and shortcuts are computed in
+ * parallel, with witness searches avoiding the whole set so that they don't rely on paths through vertices
+ * contracted in the same round. Shortcuts are applied and priorities of the affected neighbors are recomputed
+ * between rounds.
+ */
+final class Contraction {
+    /**
+     * Witness searches give up after settling this many vertices, which may add unnecessary shortcuts but never
+     * loses a shortest path
+     */
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private final int n;
+    private final ForkJoinPool pool;
+    private final Arcs[] out, in, up, down;
+    private final boolean[] contracted, inSet, dirty;
+    private final int[] priorities, contractedNeighbors, ranks;
+    // idle witness search state, kept off the pool's threads so that it's dropped along with the contraction
+    private final Queue<Witness> witnesses = new ConcurrentLinkedQueue<>();
+
+    Contraction(GraphSnapshot<?> snapshot, ForkJoinPool pool) {
+        this.n = snapshot.vertexCount();
+        this.pool = pool;
+        out = arcs(n);
+        in = arcs(n);
+        up = new Arcs[n];
+        down = new Arcs[n];
+        contracted = new boolean[n];
+        inSet = new boolean[n];
+        dirty = new boolean[n];
+        priorities = new int[n];
+        contractedNeighbors = new int[n];
+        ranks = new int[n];
+
+        for (int u = 0; u < n; u++) {
+            for (int e = snapshot.edgesFrom(u), end = snapshot.edgesTo(u); e < end; e++) {
+                int w = snapshot.target(e);
+                long weight = snapshot.weight(e);
+
+                if (weight < 0) {
+                    throw new IllegalStateException("Negative edge weight detected");
+                }
+
+                // self-loops are never part of shortest paths
+                if (w != u) {
+                    out[u].put(w, weight, -1);
+                    in[w].put(u, weight, -1);
+                }
+            }
+        }
+    }
+
+    private static Arcs[] arcs(int n) {
+        Arcs[] arcs = new Arcs[n];
+
+        for (int i = 0; i < n; i++) {
+            arcs[i] = new Arcs();
+        }
+
+        return arcs;
+    }
+
+    int[] ranks() { return ranks; }
+
+    /**
+     * @return arcs going out of every vertex to higher ranked vertices
+     */
+    Arcs[] up() { return up; }
+
+    /**
+     * @return arcs coming into every vertex from higher ranked vertices
+     */
+    Arcs[] down() { return down; }
+
+    void contractAll() {
+        int[] remaining = IntStream.range(0, n).toArray();
+        run(() -> IntStream.range(0, n).parallel().forEach(v -> priorities[v] = priority(v)));
+        int rank = 0;
+
+        while (remaining.length > 0) {
+            int[] candidates = remaining;
+            int[] set = compute(() -> IntStream.of(candidates).parallel().filter(this::isLocalMinimum).toArray());
+
+            for (int v : set) {
+                inSet[v] = true;
+            }
+
+            @SuppressWarnings("unchecked")
+            List<long[]>[] shortcuts = new List[set.length];
+            run(() -> IntStream.range(0, set.length).parallel()
+                    .forEach(i -> shortcuts[i] = shortcuts(set[i], inSet)));
+
+            for (int i = 0; i < set.length; i++) {
+                contract(set[i], shortcuts[i], rank++);
+            }
+
+            for (int v : set) {
+                inSet[v] = false;
+            }
+
+            int[] affected = IntStream.of(remaining).filter(v -> dirty[v] && !contracted[v]).toArray();
+            run(() -> IntStream.of(affected).parallel().forEach(v -> {
+                dirty[v] = false;
+                priorities[v] = priority(v);
+            }));
+            remaining = IntStream.of(remaining).filter(v -> !contracted[v]).toArray();
+        }
+    }
+
+    private void contract(int v, List<long[]> shortcuts, int rank) {
+        contracted[v] = true;
+        ranks[v] = rank;
+        up[v] = out[v];
+        down[v] = in[v];
+
+        for (int i = 0; i < up[v].size; i++) {
+            int w = up[v].vertices[i];
+            in[w].remove(v);
+            contractedNeighbors[w]++;
+            dirty[w] = true;
+        }
+
+        for (int i = 0; i < down[v].size; i++) {
+            int u = down[v].vertices[i];
+            out[u].remove(v);
+            contractedNeighbors[u]++;
+            dirty[u] = true;
+        }
+
+        for (long[] s : shortcuts) {
+            int u = (int) s[0], w = (int) s[1];
+            out[u].put(w, s[2], v);
+            in[w].put(u, s[2], v);
+        }
+    }
+
+    /**
+     * Ties are broken by a hash of the id rather than the id itself, as ids follow insertion order, which tends
+     * to follow the graph's structure
+     */
+    private boolean isLocalMinimum(int v) {
+        for (Arcs arcs : new Arcs[] { out[v], in[v] }) {
+            for (int i = 0; i < arcs.size; i++) {
+                int x = arcs.vertices[i];
+
+                if (priorities[x] < priorities[v] || (priorities[x] == priorities[v] && mix(x) < mix(v))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static int mix(int id) {
+        int h = id * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    private int priority(int v) {
+        return shortcuts(v, null).size() - out[v].size - in[v].size + contractedNeighbors[v];
+    }
+
+    /**
+     * @param excluded vertices witness paths may not go through besides {@code v}, null for none
+     * @return shortcuts as {source, sink, weight} triples needed to preserve shortest paths once {@code v} is
+     * contracted
+     */
+    private List<long[]> shortcuts(int v, boolean[] excluded) {
+        List<long[]> shortcuts = new ArrayList<>();
+        Arcs ins = in[v], outs = out[v];
+        Witness witness = witnesses.poll();
+
+        if (witness == null) {
+            witness = new Witness(n);
+        }
+
+        for (int i = 0; i < ins.size; i++) {
+            int u = ins.vertices[i];
+            long limit = -1;
+
+            for (int j = 0; j < outs.size; j++) {
+                if (outs.vertices[j] != u) {
+                    limit = Math.max(limit, ins.weights[i] + outs.weights[j]);
+                }
+            }
+
+            if (limit < 0) {
+                continue;
+            }
+
+            witness.search(out, contracted, u, v, limit, excluded);
+
+            for (int j = 0; j < outs.size; j++) {
+                int w = outs.vertices[j];
+                long through = ins.weights[i] + outs.weights[j];
+
+                if (w != u && witness.distance(w) > through) {
+                    shortcuts.add(new long[] { u, w, through });
+                }
+            }
+        }
+
+        witnesses.offer(witness);
+        return shortcuts;
+    }
+
+    private <T> T compute(Callable<T> task) {
+        try {
+            return pool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while contracting", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void run(Runnable task) {
+        compute(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * State of witness searches, used by one search at a time. Distances are stamped with the search they belong
+     * to, so that searches don't need to clear them.
+     */
+    private static final class Witness {
+        private final long[] distances;
+        private final int[] stamps;
+        private final IndexedHeap queue;
+        private int stamp;
+
+        Witness(int n) {
+            distances = new long[n];
+            stamps = new int[n];
+            queue = new IndexedHeap(n);
+        }
+
+        void search(Arcs[] out, boolean[] contracted, int source, int avoided, long limit, boolean[] excluded) {
+            if (++stamp == 0) {
+                Arrays.fill(stamps, 0);
+                stamp = 1;
+            }
+
+            queue.clear();
+            reach(source, 0);
+            int settled = 0;
+
+            while (!queue.isEmpty() && queue.peekKey() <= limit && settled++ < WITNESS_SETTLE_LIMIT) {
+                long distance = queue.peekKey();
+                Arcs arcs = out[queue.poll()];
+
+                for (int i = 0; i < arcs.size; i++) {
+                    int w = arcs.vertices[i];
+
+                    if (w != avoided && (excluded == null || !excluded[w]) && !contracted[w]) {
+                        reach(w, distance + arcs.weights[i]);
+                    }
+                }
+            }
+        }
+
+        private void reach(int v, long distance) {
+            if (stamps[v] != stamp || distance < distances[v]) {
+                stamps[v] = stamp;
+                distances[v] = distance;
+                queue.offer(v, distance);
+            }
+        }
+
+        long distance(int v) {
+            return stamps[v] == stamp ? distances[v] : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * A vertex's arcs, at most one per neighbor, keeping the lightest
+     */
+    static final class Arcs {
+        int[] vertices = new int[2];
+        long[] weights = new long[2];
+        int[] middles = new int[2];
+        int size;
+
+        void put(int vertex, long weight, int middle) {
+            for (int i = 0; i < size; i++) {
+                if (vertices[i] == vertex) {
+                    if (weight < weights[i]) {
+                        weights[i] = weight;
+                        middles[i] = middle;
+                    }
+
+                    return;
+                }
+            }
+
+            if (size == vertices.length) {
+                vertices = Arrays.copyOf(vertices, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                middles = Arrays.copyOf(middles, size * 2);
+            }
+
+            vertices[size] = vertex;
+            weights[size] = weight;
+            middles[size] = middle;
+            size++;
+        }
+
+        void remove(int vertex) {
+            for (int i = 0; i < size; i++) {
+                if (vertices[i] == vertex) {
+                    size--;
+                    vertices[i] = vertices[size];
+                    weights[i] = weights[size];
+                    middles[i] = middles[size];
+                    return;
+                }
+            }
+        }
+    }
+}
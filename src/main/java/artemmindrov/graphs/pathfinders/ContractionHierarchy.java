@@ -0,0 +1,453 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import artemmindrov.graphs.GraphSnapshot;
+import artemmindrov.graphs.VertexSerializer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A <a href="https://en.wikipedia.org/wiki/Contraction_hierarchies">contraction hierarchy</a> index answering
+ * point-to-point shortest path queries with a bidirectional search which only ever goes up the hierarchy, and
+ * thus settles a tiny fraction of the vertices a plain search would. The price is preprocessing which contracts
+ * vertices one by one, adding shortcut arcs that preserve shortest paths among the remaining ones, so the index
+ * suits graphs that change rarely.
+ * <p>
+ * The index is a copy of the graph as it was when the index was built (or saved), and later modifications of the
+ * graph are not reflected in the paths it finds. Negative edge weights are not supported.
+ * @param <V> user defined vertex type
+ */
+public final class ContractionHierarchy<V> implements PathFinder<V> {
+    private static final int MAGIC = 0x47434831;
+    private static final int FORMAT_VERSION = 1;
+
+    private final V[] vertices;
+    private final Map<V, Integer> ids;
+    private final int[] ranks;
+    private final int[] upOffsets, upTargets, upMiddles;
+    private final long[] upWeights;
+    private final int[] downOffsets, downSources, downMiddles;
+    private final long[] downWeights;
+    // idle query state, reused by later queries; kept off threads so that dropped indexes can be collected
+    private final Queue<Query> queries = new ConcurrentLinkedQueue<>();
+
+    private ContractionHierarchy(V[] vertices, int[] ranks, int[] upOffsets, int[] upTargets, long[] upWeights,
+                                 int[] upMiddles, int[] downOffsets, int[] downSources, long[] downWeights,
+                                 int[] downMiddles) {
+        this.vertices = vertices;
+        this.ranks = ranks;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upWeights = upWeights;
+        this.upMiddles = upMiddles;
+        this.downOffsets = downOffsets;
+        this.downSources = downSources;
+        this.downWeights = downWeights;
+        this.downMiddles = downMiddles;
+        this.ids = new HashMap<>(vertices.length * 4 / 3 + 1);
+
+        for (int i = 0; i < vertices.length; i++) {
+            ids.put(vertices[i], i);
+        }
+    }
+
+    /**
+     * Builds an index of the graph, preprocessing in parallel on the common fork-join pool
+     * @param graph the graph to index
+     * @return a {@link ContractionHierarchy} instance
+     * @throws IllegalStateException in case an edge with negative weight is encountered
+     */
+    public static <V> ContractionHierarchy<V> build(Graph<V> graph) {
+        return build(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds an index of the graph, preprocessing in parallel on the specified pool
+     * @param graph the graph to index
+     * @param pool the pool to preprocess on
+     * @return a {@link ContractionHierarchy} instance
+     * @throws IllegalStateException in case an edge with negative weight is encountered
+     */
+    public static <V> ContractionHierarchy<V> build(Graph<V> graph, ForkJoinPool pool) {
+        GraphSnapshot<V> snapshot = graph.snapshot();
+        Contraction contraction = new Contraction(snapshot, pool);
+        contraction.contractAll();
+
+        int n = snapshot.vertexCount();
+        @SuppressWarnings("unchecked")
+        V[] vertices = (V[]) new Object[n];
+
+        for (int i = 0; i < n; i++) {
+            vertices[i] = snapshot.vertexOf(i);
+        }
+
+        Contraction.Arcs[] up = contraction.up(), down = contraction.down();
+        int[] upOffsets = offsets(up), downOffsets = offsets(down);
+        int[] upTargets = new int[upOffsets[n]], upMiddles = new int[upOffsets[n]];
+        long[] upWeights = new long[upOffsets[n]];
+        int[] downSources = new int[downOffsets[n]], downMiddles = new int[downOffsets[n]];
+        long[] downWeights = new long[downOffsets[n]];
+
+        for (int v = 0; v < n; v++) {
+            System.arraycopy(up[v].vertices, 0, upTargets, upOffsets[v], up[v].size);
+            System.arraycopy(up[v].weights, 0, upWeights, upOffsets[v], up[v].size);
+            System.arraycopy(up[v].middles, 0, upMiddles, upOffsets[v], up[v].size);
+            System.arraycopy(down[v].vertices, 0, downSources, downOffsets[v], down[v].size);
+            System.arraycopy(down[v].weights, 0, downWeights, downOffsets[v], down[v].size);
+            System.arraycopy(down[v].middles, 0, downMiddles, downOffsets[v], down[v].size);
+        }
+
+        return new ContractionHierarchy<>(vertices, contraction.ranks(), upOffsets, upTargets, upWeights, upMiddles,
+                downOffsets, downSources, downWeights, downMiddles);
+    }
+
+    private static int[] offsets(Contraction.Arcs[] arcs) {
+        int[] offsets = new int[arcs.length + 1];
+
+        for (int v = 0; v < arcs.length; v++) {
+            offsets[v + 1] = offsets[v] + arcs[v].size;
+        }
+
+        return offsets;
+    }
+
+    /**
+     * @return number of vertices in the index
+     */
+    public int vertexCount() { return vertices.length; }
+
+    /**
+     * @return number of arcs in the index, including shortcuts
+     */
+    public int arcCount() { return upTargets.length + downSources.length; }
+
+    /**
+     * @return number of shortcut arcs added by preprocessing
+     */
+    public int shortcutCount() {
+        int count = 0;
+
+        for (int m : upMiddles) {
+            count += m >= 0 ? 1 : 0;
+        }
+
+        for (int m : downMiddles) {
+            count += m >= 0 ? 1 : 0;
+        }
+
+        return count;
+    }
+
+    /**
+     * Finds the shortest path with a bidirectional Dijkstra search over upward arcs, which stops in each direction
+     * once its queue head is not shorter than the best path found. Shortcuts on the path are then unpacked into
+     * the original edges. {@code graph} is only used for consistency with other path finders, the path is computed
+     * on the graph as it was when the index was built.
+     */
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest) {
+        return getPath(graph, source, dest, new QueryStats());
+    }
+
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest, QueryStats stats) {
+        Integer from = ids.get(source), to = ids.get(dest);
+
+        if (from == null || to == null || from.equals(to)) {
+            return new ArrayList<>();
+        }
+
+        Query query = queries.poll();
+
+        if (query == null) {
+            query = new Query(vertices.length);
+        }
+
+        try {
+            int meet = search(query, from, to, stats);
+            return meet < 0 ? new ArrayList<>() : path(query, from, to, meet);
+        } finally {
+            queries.offer(query);
+        }
+    }
+
+    /**
+     * Writes the index to a file, replacing the file if it exists
+     * @param file the file to write
+     * @param serializer serializer to write vertices with
+     * @throws IOException if the file can't be written
+     */
+    public void save(Path file, VertexSerializer<V> serializer) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(vertices.length);
+
+            for (V v : vertices) {
+                serializer.write(v, out);
+            }
+
+            write(out, ranks);
+            write(out, upOffsets);
+            write(out, upTargets);
+            write(out, upWeights);
+            write(out, upMiddles);
+            write(out, downOffsets);
+            write(out, downSources);
+            write(out, downWeights);
+            write(out, downMiddles);
+        }
+    }
+
+    /**
+     * Loads an index written by {@link ContractionHierarchy#save(Path, VertexSerializer)}
+     * @param file the file to load
+     * @param serializer serializer to read vertices with, compatible with the one the file was written with
+     * @return a {@link ContractionHierarchy} instance equal to the saved one
+     * @throws IOException if the file can't be read or is not a contraction hierarchy file
+     */
+    public static <V> ContractionHierarchy<V> load(Path file, VertexSerializer<V> serializer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported contraction hierarchy format in " + file);
+            }
+
+            int n = in.readInt();
+            @SuppressWarnings("unchecked")
+            V[] vertices = (V[]) new Object[n];
+
+            for (int i = 0; i < n; i++) {
+                vertices[i] = serializer.read(in);
+            }
+
+            int[] ranks = readInts(in, n);
+            int[] upOffsets = readInts(in, n + 1);
+            int upCount = upOffsets[n];
+            int[] upTargets = readInts(in, upCount);
+            long[] upWeights = readLongs(in, upCount);
+            int[] upMiddles = readInts(in, upCount);
+            int[] downOffsets = readInts(in, n + 1);
+            int downCount = downOffsets[n];
+            int[] downSources = readInts(in, downCount);
+            long[] downWeights = readLongs(in, downCount);
+            int[] downMiddles = readInts(in, downCount);
+
+            return new ContractionHierarchy<>(vertices, ranks, upOffsets, upTargets, upWeights, upMiddles,
+                    downOffsets, downSources, downWeights, downMiddles);
+        }
+    }
+
+    private static void write(DataOutputStream out, int[] values) throws IOException {
+        for (int v : values) {
+            out.writeInt(v);
+        }
+    }
+
+    private static void write(DataOutputStream out, long[] values) throws IOException {
+        for (long v : values) {
+            out.writeLong(v);
+        }
+    }
+
+    private static int[] readInts(DataInputStream in, int count) throws IOException {
+        int[] values = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readInt();
+        }
+
+        return values;
+    }
+
+    private static long[] readLongs(DataInputStream in, int count) throws IOException {
+        long[] values = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readLong();
+        }
+
+        return values;
+    }
+
+    /**
+     * @return the vertex where the shortest path's forward and backward halves meet, -1 if there is no path
+     */
+    private int search(Query query, int from, int to, QueryStats stats) {
+        Half forward = query.forward, backward = query.backward;
+        forward.start(from);
+        backward.start(to);
+        long best = Long.MAX_VALUE;
+        int meet = -1;
+
+        while (!forward.queue.isEmpty() || !backward.queue.isEmpty()) {
+            boolean isForward = backward.queue.isEmpty() ||
+                    (!forward.queue.isEmpty() && forward.queue.peekKey() <= backward.queue.peekKey());
+            Half half = isForward ? forward : backward;
+
+            if (half.queue.peekKey() >= best) {
+                half.queue.clear();
+                continue;
+            }
+
+            long distance = half.queue.peekKey();
+            int u = half.queue.poll();
+            stats.settle();
+
+            long other = (isForward ? backward : forward).distance(u);
+
+            if (other != Long.MAX_VALUE && distance + other < best) {
+                best = distance + other;
+                meet = u;
+            }
+
+            if (isForward) {
+                for (int a = upOffsets[u], end = upOffsets[u + 1]; a < end; a++) {
+                    stats.relax();
+                    forward.reach(upTargets[a], distance + upWeights[a], u, a);
+                }
+            } else {
+                for (int a = downOffsets[u], end = downOffsets[u + 1]; a < end; a++) {
+                    stats.relax();
+                    backward.reach(downSources[a], distance + downWeights[a], u, a);
+                }
+            }
+        }
+
+        return meet;
+    }
+
+    private List<Edge<V>> path(Query query, int from, int to, int meet) {
+        Half forward = query.forward, backward = query.backward;
+        List<Edge<V>> path = new ArrayList<>();
+        List<Integer> forwardPath = new ArrayList<>();
+
+        for (int v = meet; v != from; v = forward.parents[v]) {
+            forwardPath.add(v);
+        }
+
+        Collections.reverse(forwardPath);
+
+        for (int v : forwardPath) {
+            int a = forward.arcs[v];
+            unpack(forward.parents[v], v, upWeights[a], upMiddles[a], path);
+        }
+
+        for (int v = meet; v != to; v = backward.parents[v]) {
+            int a = backward.arcs[v];
+            unpack(v, backward.parents[v], downWeights[a], downMiddles[a], path);
+        }
+
+        return path;
+    }
+
+    /**
+     * Scratch state of a query, used by one query at a time
+     */
+    private static final class Query {
+        private final Half forward, backward;
+
+        Query(int n) {
+            forward = new Half(n);
+            backward = new Half(n);
+        }
+    }
+
+    /**
+     * State of one direction of a query. Distances are stamped with the query they belong to, so that queries only
+     * touch the vertices they reach instead of clearing arrays of the graph's size.
+     */
+    private static final class Half {
+        private final long[] distances;
+        private final int[] stamps;
+        // parent vertex and index of the arc leading to it, in the up (forward) or down (backward) arrays
+        private final int[] parents, arcs;
+        private final IndexedHeap queue;
+        private int stamp;
+
+        Half(int n) {
+            distances = new long[n];
+            stamps = new int[n];
+            parents = new int[n];
+            arcs = new int[n];
+            queue = new IndexedHeap(n);
+        }
+
+        /**
+         * Starts a new search, clearing the stamps once they wrap around so that stale ones can't match
+         */
+        void start(int source) {
+            if (++stamp == 0) {
+                Arrays.fill(stamps, 0);
+                stamp = 1;
+            }
+
+            queue.clear();
+            reach(source, 0, -1, -1);
+        }
+
+        long distance(int v) {
+            return stamps[v] == stamp ? distances[v] : Long.MAX_VALUE;
+        }
+
+        void reach(int v, long distance, int parent, int arc) {
+            if (stamps[v] != stamp || distance < distances[v]) {
+                stamps[v] = stamp;
+                distances[v] = distance;
+                parents[v] = parent;
+                arcs[v] = arc;
+                queue.offer(v, distance);
+            }
+        }
+    }
+
+    /**
+     * Replaces a shortcut u-w through m with the arcs u-m and m-w recursively. As m was contracted before both
+     * u and w, those are found among m's downward and upward arcs respectively.
+     */
+    private void unpack(int u, int w, long weight, int middle, List<Edge<V>> path) {
+        Deque<long[]> stack = new ArrayDeque<>();
+        stack.push(new long[] { u, w, weight, middle });
+
+        while (!stack.isEmpty()) {
+            long[] arc = stack.pop();
+            int source = (int) arc[0], sink = (int) arc[1], m = (int) arc[3];
+
+            if (m < 0) {
+                path.add(Edge.of(vertices[source], vertices[sink], arc[2]));
+                continue;
+            }
+
+            int in = find(downOffsets, downSources, m, source), out = find(upOffsets, upTargets, m, sink);
+            stack.push(new long[] { m, sink, upWeights[out], upMiddles[out] });
+            stack.push(new long[] { source, m, downWeights[in], downMiddles[in] });
+        }
+    }
+
+    private static int find(int[] offsets, int[] neighbors, int v, int neighbor) {
+        for (int a = offsets[v], end = offsets[v + 1]; a < end; a++) {
+            if (neighbors[a] == neighbor) {
+                return a;
+            }
+        }
+
+        throw new IllegalStateException("Corrupt contraction hierarchy: no arc between " + v + " and " + neighbor);
+    }
+}
@@ -0,0 +1,154 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+public class DagShortestPath<V> implements SingleSourcePathFinder<V> {
+    private final boolean isLongest;
+
+    public DagShortestPath() {
+        this(false);
+    }
+
+    private DagShortestPath(boolean longest) {
+        isLongest = longest;
+    }
+
+    /**
+     * @return a path finder computing the heaviest rather than the lightest paths, e.g. critical paths of
+     * a scheduling graph with task durations as weights. Distances reported by its {@link ShortestPathTree}s are
+     * the weights of the heaviest paths
+     */
+    public static <V> DagShortestPath<V> longestPaths() {
+        return new DagShortestPath<>(true);
+    }
+
+    /**
+     * Finds paths in directed acyclic graphs in time linear in the number of vertices and edges reachable from
+     * {@code source}, by sorting them topologically with a depth-first search and relaxing edges in that order.
+     * Negative edge weights are supported. The search stops as soon as {@code dest} is reached in the order.
+     * @throws IllegalStateException in case a cycle reachable from {@code source} is detected
+     */
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest) {
+        return getPath(graph, source, dest, new QueryStats());
+    }
+
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest, QueryStats stats) {
+        return search(graph, source, graph.idOf(dest), stats).pathTo(dest);
+    }
+
+    /**
+     * Computes paths to all vertices reachable from {@code source} with the same algorithm
+     */
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source) {
+        return shortestPaths(graph, source, new QueryStats());
+    }
+
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source, QueryStats stats) {
+        return search(graph, source, -1, stats);
+    }
+
+    private ShortestPathTree<V> search(Graph<V> graph, V source, int to, QueryStats stats) {
+        int n = graph.vertexCount();
+        int from = graph.idOf(source);
+        long[] distances = new long[n];
+        int[] predecessors = new int[n];
+        Edge<V>[] predecessorEdges = Paths.edges(n);
+        long unreached = isLongest ? Long.MIN_VALUE : Long.MAX_VALUE;
+
+        Arrays.fill(distances, unreached);
+        distances[from] = 0;
+        predecessors[from] = -1;
+
+        for (int u : order(graph, from, n)) {
+            stats.settle();
+
+            if (u == to) {
+                break;
+            }
+
+            for (Edge<V> e : graph.outEdges(graph.vertexOf(u))) {
+                stats.relax();
+                int v = graph.idOf(e.sink());
+                long distance = distances[u] + e.weight();
+
+                if (v < n && (isLongest ? distance > distances[v] : distance < distances[v])) {
+                    distances[v] = distance;
+                    predecessors[v] = u;
+                    predecessorEdges[v] = e;
+                }
+            }
+        }
+
+        if (isLongest) {
+            for (int v = 0; v < n; v++) {
+                if (distances[v] == unreached) {
+                    distances[v] = ShortestPathTree.UNREACHABLE;
+                }
+            }
+        }
+
+        return new ShortestPathTree<>(graph, source, distances, predecessors, predecessorEdges);
+    }
+
+    /**
+     * Sorts the vertices reachable from {@code from} topologically with an iterative depth-first search
+     * @return ids of the reachable vertices in topological order
+     * @throws IllegalStateException in case a cycle is detected
+     */
+    private int[] order(Graph<V> graph, int from, int n) {
+        // 0 for unvisited vertices, 1 for the ones on the search path, 2 for finished ones
+        byte[] states = new byte[n];
+        int[] path = new int[n], order = new int[n];
+        @SuppressWarnings("unchecked")
+        Iterator<Edge<V>>[] edges = new Iterator[n];
+        int depth = 0, finished = 0;
+
+        path[depth++] = from;
+        states[from] = 1;
+        edges[from] = graph.outEdges(graph.vertexOf(from)).iterator();
+
+        while (depth > 0) {
+            int u = path[depth - 1];
+
+            if (edges[u].hasNext()) {
+                int v = graph.idOf(edges[u].next().sink());
+
+                if (v >= n || states[v] == 2) {
+                    continue;
+                }
+
+                if (states[v] == 1) {
+                    throw new IllegalStateException("Graph contains a cycle");
+                }
+
+                states[v] = 1;
+                edges[v] = graph.outEdges(graph.vertexOf(v)).iterator();
+                path[depth++] = v;
+                continue;
+            }
+
+            states[u] = 2;
+            edges[u] = null;
+            order[finished++] = u;
+            depth--;
+        }
+
+        // vertices were finished in reverse topological order
+        int[] reversed = new int[finished];
+
+        for (int i = 0; i < finished; i++) {
+            reversed[i] = order[finished - 1 - i];
+        }
+
+        return reversed;
+    }
+}
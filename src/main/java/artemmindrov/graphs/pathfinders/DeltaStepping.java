@@ -0,0 +1,235 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class DeltaStepping<V> implements SingleSourcePathFinder<V> {
+    private final long delta;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param delta bucket width, edges not heavier than it are relaxed repeatedly within a bucket. Good values are
+     * close to the maximum edge weight divided by the average vertex degree
+     */
+    public DeltaStepping(long delta) {
+        this(delta, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param delta bucket width, see {@link DeltaStepping#DeltaStepping(long)}
+     * @param pool the pool to relax edges on
+     */
+    public DeltaStepping(long delta, ForkJoinPool pool) {
+        if (delta <= 0) {
+            throw new IllegalArgumentException("Delta should be positive");
+        }
+
+        this.delta = delta;
+        this.pool = pool;
+    }
+
+    /**
+     * This is an implementation of the <a href="https://doi.org/10.1016/S0196-6774(03)00076-2">delta-stepping</a>
+     * algorithm. Vertices are kept in buckets of tentative distance ranges {@code delta} wide, and the edges going
+     * out of all vertices of the lowest bucket are scanned in parallel on the pool. The search stops as soon as
+     * {@code dest}'s bucket is settled.
+     * @throws IllegalStateException in case an edge with negative weight is encountered
+     */
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest) {
+        return getPath(graph, source, dest, new QueryStats());
+    }
+
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest, QueryStats stats) {
+        return search(graph, source, graph.idOf(dest), stats).pathTo(dest);
+    }
+
+    /**
+     * Computes shortest paths to all vertices reachable from {@code source} with the same algorithm, without early
+     * termination
+     */
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source) {
+        return shortestPaths(graph, source, new QueryStats());
+    }
+
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source, QueryStats stats) {
+        return search(graph, source, -1, stats);
+    }
+
+    private ShortestPathTree<V> search(Graph<V> graph, V source, int to, QueryStats stats) {
+        Search<V> search = new Search<>(graph, delta);
+        search.relax(new Request<>(graph.idOf(source), 0, -1, null));
+
+        while (!search.buckets.isEmpty()) {
+            long index = search.buckets.firstKey();
+            VertexList settled = new VertexList();
+
+            while (search.buckets.containsKey(index)) {
+                int[] current = search.buckets.remove(index).distinct(search, index);
+                settled.addAll(current);
+                stats.settle(current.length);
+                search.relaxAll(requests(search, current, e -> e.weight() <= delta, stats));
+            }
+
+            search.relaxAll(requests(search, settled.toArray(), e -> e.weight() > delta, stats));
+
+            if (to >= 0 && search.distances[to] / delta <= index) {
+                break;
+            }
+        }
+
+        return new ShortestPathTree<>(graph, source, search.distances, search.predecessors, search.predecessorEdges);
+    }
+
+    /**
+     * Scans the edges going out of {@code vertices} in parallel and collects the best improvement for every sink
+     */
+    private List<Request<V>> requests(Search<V> search, int[] vertices, Predicate<Edge<V>> filter, QueryStats stats) {
+        LongAdder relaxed = new LongAdder();
+
+        try {
+            return pool.submit(() -> IntStream.of(vertices).parallel()
+                    .boxed()
+                    .flatMap(u -> search.graph.outEdges(search.graph.vertexOf(u)).stream()
+                            .filter(filter)
+                            .peek(e -> relaxed.increment())
+                            .map(e -> search.request(u, e)))
+                    .filter(r -> r != null)
+                    .collect(Collectors.toConcurrentMap(r -> r.vertex, r -> r, (a, b) -> a.distance <= b.distance ? a : b))
+                    .values()
+                    .stream()
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while relaxing edges", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            stats.relax(relaxed.sum());
+        }
+    }
+
+    private static final class Search<V> {
+        final Graph<V> graph;
+        final long delta;
+        final long[] distances;
+        final int[] predecessors;
+        final Edge<V>[] predecessorEdges;
+        final int[] marks;
+        final TreeMap<Long, VertexList> buckets = new TreeMap<>();
+        int pass;
+
+        Search(Graph<V> graph, long delta) {
+            int n = graph.vertexCount();
+            this.graph = graph;
+            this.delta = delta;
+            distances = new long[n];
+            predecessors = new int[n];
+            predecessorEdges = Paths.edges(n);
+            marks = new int[n];
+            Arrays.fill(distances, Long.MAX_VALUE);
+        }
+
+        /**
+         * Called concurrently, only reads the distances
+         */
+        Request<V> request(int u, Edge<V> e) {
+            if (e.weight() < 0) {
+                throw new IllegalStateException("Negative edge weight detected");
+            }
+
+            int v = graph.idOf(e.sink());
+            long distance = distances[u] + e.weight();
+            return v < distances.length && distance < distances[v] ? new Request<>(v, distance, u, e) : null;
+        }
+
+        void relaxAll(List<Request<V>> requests) {
+            for (Request<V> r : requests) {
+                relax(r);
+            }
+        }
+
+        void relax(Request<V> r) {
+            if (r.distance < distances[r.vertex]) {
+                distances[r.vertex] = r.distance;
+                predecessors[r.vertex] = r.predecessor;
+                predecessorEdges[r.vertex] = r.edge;
+                buckets.computeIfAbsent(r.distance / delta, i -> new VertexList()).add(r.vertex);
+            }
+        }
+    }
+
+    private static final class Request<V> {
+        final int vertex, predecessor;
+        final long distance;
+        final Edge<V> edge;
+
+        Request(int vertex, long distance, int predecessor, Edge<V> edge) {
+            this.vertex = vertex;
+            this.distance = distance;
+            this.predecessor = predecessor;
+            this.edge = edge;
+        }
+    }
+
+    /**
+     * A growable list of vertex ids. Vertices moved to a lower bucket are not removed from their previous one, so
+     * buckets are filtered when processed.
+     */
+    private static final class VertexList {
+        private int[] ids = new int[8];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+
+            ids[size++] = id;
+        }
+
+        void addAll(int[] other) {
+            for (int id : other) {
+                add(id);
+            }
+        }
+
+        int[] toArray() { return Arrays.copyOf(ids, size); }
+
+        /**
+         * @return vertices that still belong to bucket {@code index}, each one once per pass
+         */
+        int[] distinct(Search<?> search, long index) {
+            VertexList result = new VertexList();
+            int pass = ++search.pass;
+
+            for (int i = 0; i < size; i++) {
+                int id = ids[i];
+
+                if (search.distances[id] / search.delta == index && search.marks[id] != pass) {
+                    search.marks[id] = pass;
+                    result.add(id);
+                }
+            }
+
+            return result.toArray();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import artemmindrov.graphs.GraphSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class Dijkstra<V> implements SingleSourcePathFinder<V>, SnapshotPathFinder<V> {
+    /**
+     * This is an implementation of the <a href="https://en.wikipedia.org/wiki/Dijkstra%27s_algorithm">Dijkstra</a>
+     * algorithm backed by an indexed binary heap. The search stops as soon as {@code dest} is settled.
+     * @throws IllegalStateException in case an edge with negative weight is encountered
+     */
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest) {
+        return getPath(graph, source, dest, new QueryStats());
+    }
+
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest, QueryStats stats) {
+        return search(graph, source, graph.idOf(dest), stats).pathTo(dest);
+    }
+
+    /**
+     * Computes shortest paths to all vertices reachable from {@code source} with the same algorithm, without early
+     * termination
+     */
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source) {
+        return shortestPaths(graph, source, new QueryStats());
+    }
+
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source, QueryStats stats) {
+        return search(graph, source, -1, stats);
+    }
+
+    private ShortestPathTree<V> search(Graph<V> graph, V source, int to, QueryStats stats) {
+        int n = graph.vertexCount();
+        int from = graph.idOf(source);
+        long[] distances = new long[n];
+        int[] predecessors = new int[n];
+        Edge<V>[] predecessorEdges = Paths.edges(n);
+        IndexedHeap queue = new IndexedHeap(n);
+
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[from] = 0;
+        predecessors[from] = -1;
+        queue.offer(from, 0);
+
+        while (!queue.isEmpty()) {
+            long distance = queue.peekKey();
+            int u = queue.poll();
+
+            if (u == to) {
+                break;
+            }
+
+            stats.settle();
+
+            for (Edge<V> e : graph.outEdges(graph.vertexOf(u))) {
+                stats.relax();
+
+                if (e.weight() < 0) {
+                    throw new IllegalStateException("Negative edge weight detected");
+                }
+
+                int v = graph.idOf(e.sink());
+                long candidate = distance + e.weight();
+
+                if (v < n && candidate < distances[v]) {
+                    distances[v] = candidate;
+                    predecessors[v] = u;
+                    predecessorEdges[v] = e;
+                    queue.offer(v, candidate);
+                }
+            }
+        }
+
+        return new ShortestPathTree<>(graph, source, distances, predecessors, predecessorEdges);
+    }
+
+    /**
+     * A flavor of {@link Dijkstra#getPath(Graph, Object, Object)} operating on the snapshot's primitive arrays
+     * @throws IllegalStateException in case an edge with negative weight is encountered
+     */
+    @Override
+    public List<Edge<V>> getPath(GraphSnapshot<V> snapshot, V source, V dest) {
+        int n = snapshot.vertexCount();
+        int from = snapshot.idOf(source), to = snapshot.idOf(dest);
+        long[] distances = new long[n];
+        int[] predecessors = new int[n];
+        int[] predecessorEdges = new int[n];
+        IndexedHeap queue = new IndexedHeap(n);
+
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[from] = 0;
+        predecessors[from] = -1;
+        queue.offer(from, 0);
+
+        while (!queue.isEmpty()) {
+            long distance = queue.peekKey();
+            int u = queue.poll();
+
+            if (u == to) {
+                return Paths.path(snapshot, predecessors, predecessorEdges, to);
+            }
+
+            for (int e = snapshot.edgesFrom(u), end = snapshot.edgesTo(u); e < end; e++) {
+                long weight = snapshot.weight(e);
+
+                if (weight < 0) {
+                    throw new IllegalStateException("Negative edge weight detected");
+                }
+
+                int v = snapshot.target(e);
+                long candidate = distance + weight;
+
+                if (candidate < distances[v]) {
+                    distances[v] = candidate;
+                    predecessors[v] = u;
+                    predecessorEdges[v] = e;
+                    queue.offer(v, candidate);
+                }
+            }
+        }
+
+        return new ArrayList<>();
+    }
+}
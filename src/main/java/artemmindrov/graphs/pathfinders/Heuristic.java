@@ -0,0 +1,17 @@
+package artemmindrov.graphs.pathfinders;
+
+/**
+ * A user supplied estimate of the distance between two vertices, used to direct the {@link AStar} search
+ * @param <V> user defined vertex type
+ */
+@FunctionalInterface
+public interface Heuristic<V> {
+    /**
+     * To guarantee shortest paths, the heuristic should be admissible, i.e. never overestimate the actual distance.
+     * E.g. for vertices carrying coordinates and edges weighted by length, the straight-line distance is admissible.
+     * @param vertex the vertex being explored
+     * @param dest the search's end vertex
+     * @return a lower bound on the weight of the shortest path from {@code vertex} to {@code dest}
+     */
+    long estimate(V vertex, V dest);
+}
@@ -0,0 +1,190 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import artemmindrov.graphs.GraphListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shortest paths from a single source vertex, kept up to date as edges are added to the graph. As graphs only
+ * grow, an added edge can only shorten paths, so only the improvements the edge brings are propagated, label
+ * correcting style, to the vertices whose distances change. The cost of an insert is thus proportional to the
+ * number of affected vertices and their out-degrees rather than to the size of the graph.
+ * <p>
+ * Updates are applied on the thread adding the edge, and both updates and queries are serialized on this instance.
+ * If an added edge creates a negative weight cycle reachable from the source, the instance stops tracking the graph
+ * and all further queries fail.
+ * @param <V> user defined vertex type
+ */
+public final class IncrementalShortestPaths<V> implements GraphListener<V>, AutoCloseable {
+    private final Graph<V> graph;
+    private final V source;
+    private long[] distances = new long[0];
+    private int[] predecessors = new int[0];
+    private Edge<V>[] predecessorEdges = Paths.edges(0);
+    private int[] lengths = new int[0];
+    private VertexQueue queue = new VertexQueue(0);
+    private boolean hasNegativeCycle;
+
+    /**
+     * Computes the initial shortest paths and registers the instance as a listener of the graph, see also
+     * {@link Graph#trackShortestPaths(Object)}
+     * @param graph the graph to track
+     * @param source vertex to use as the source of all paths
+     * @throws IllegalStateException in case a negative weight cycle is detected
+     */
+    public IncrementalShortestPaths(Graph<V> graph, V source) {
+        this.graph = graph;
+        this.source = source;
+
+        // registered first so that no edge added during the initial computation is missed
+        graph.addListener(this);
+
+        synchronized (this) {
+            int from = graph.idOf(source);
+            // covers every vertex already in the graph, the initial search may reach any of them
+            ensureCapacity(Math.max(from, graph.vertexCount() - 1));
+            distances[from] = 0;
+            queue.add(from);
+            propagate();
+        }
+
+        check();
+    }
+
+    /**
+     * @return the source vertex
+     */
+    public V source() { return source; }
+
+    @Override
+    public synchronized void edgeAdded(Edge<V> edge) {
+        if (hasNegativeCycle) {
+            return;
+        }
+
+        int u = graph.idOf(edge.source()), v = graph.idOf(edge.sink());
+        ensureCapacity(Math.max(u, v));
+
+        if (distances[u] != Long.MAX_VALUE) {
+            relax(u, v, edge);
+            propagate();
+        }
+    }
+
+    private void relax(int u, int v, Edge<V> e) {
+        long distance = distances[u] + e.weight();
+
+        if (distance >= distances[v]) {
+            return;
+        }
+
+        distances[v] = distance;
+        predecessors[v] = u;
+        predecessorEdges[v] = e;
+        lengths[v] = lengths[u] + 1;
+
+        if (lengths[v] >= graph.vertexCount()) {
+            hasNegativeCycle = true;
+            return;
+        }
+
+        queue.add(v);
+    }
+
+    private void propagate() {
+        while (!queue.isEmpty() && !hasNegativeCycle) {
+            int u = queue.poll();
+
+            for (Edge<V> e : graph.outEdges(graph.vertexOf(u))) {
+                int v = graph.idOf(e.sink());
+
+                if (v < distances.length) {
+                    relax(u, v, e);
+                }
+            }
+        }
+
+        if (hasNegativeCycle) {
+            graph.removeListener(this);
+            queue = new VertexQueue(distances.length);
+        }
+    }
+
+    /**
+     * The arrays cover every vertex existing at registration, so vertices outside of them were added later, and any
+     * edge to them is delivered (growing the arrays) after {@link #propagate()} skips it
+     */
+    private void ensureCapacity(int id) {
+        if (id < distances.length) {
+            return;
+        }
+
+        int size = distances.length, capacity = Math.max(id + 1, Math.max(size * 2, 16));
+        distances = Arrays.copyOf(distances, capacity);
+        predecessors = Arrays.copyOf(predecessors, capacity);
+        predecessorEdges = Arrays.copyOf(predecessorEdges, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        Arrays.fill(distances, size, capacity, Long.MAX_VALUE);
+        Arrays.fill(predecessors, size, capacity, -1);
+        // only ever replaced while empty
+        queue = new VertexQueue(capacity);
+    }
+
+    private void check() {
+        if (hasNegativeCycle) {
+            throw new IllegalStateException("Negative weight cycle detected");
+        }
+    }
+
+    /**
+     * @param vertex the vertex to look up
+     * @return the weight of the shortest path from the source to the vertex, 0 for the source itself, or
+     * {@link ShortestPathTree#UNREACHABLE} if there is no path or the vertex is non-existent
+     * @throws IllegalStateException if a negative weight cycle has been detected
+     */
+    public synchronized long distanceTo(V vertex) {
+        check();
+        int id = graph.idOf(vertex);
+        return id < 0 || id >= distances.length ? ShortestPathTree.UNREACHABLE : distances[id];
+    }
+
+    /**
+     * @param vertex the vertex to look up
+     * @return whether there is a path from the source to the vertex
+     * @throws IllegalStateException if a negative weight cycle has been detected
+     */
+    public boolean hasPathTo(V vertex) {
+        return distanceTo(vertex) != ShortestPathTree.UNREACHABLE;
+    }
+
+    /**
+     * @param vertex the vertex to look up
+     * @return a list of edges from the source to the vertex, an empty list if the vertex is the source itself,
+     * is non-existent or unreachable
+     * @throws IllegalStateException if a negative weight cycle has been detected
+     */
+    public synchronized List<Edge<V>> pathTo(V vertex) {
+        return hasPathTo(vertex) ? Paths.path(predecessors, predecessorEdges, graph.idOf(vertex)) : new ArrayList<>();
+    }
+
+    /**
+     * @return a copy of the current shortest paths, unaffected by later updates
+     * @throws IllegalStateException if a negative weight cycle has been detected
+     */
+    public synchronized ShortestPathTree<V> shortestPaths() {
+        check();
+        return new ShortestPathTree<>(graph, source, distances.clone(), predecessors.clone(), predecessorEdges.clone());
+    }
+
+    /**
+     * Stops tracking the graph
+     */
+    @Override
+    public void close() {
+        graph.removeListener(this);
+    }
+}
@@ -0,0 +1,145 @@
+package artemmindrov.graphs.pathfinders;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of int ids keyed by primitive longs, supporting key decrease in O(log n).
+ * Ids are expected to be dense, as the heap keeps a position table indexed by id.
+ */
+final class IndexedHeap {
+    private int[] heap;
+    private int[] positions;
+    private long[] keys;
+    private int size;
+
+    IndexedHeap(int capacity) {
+        capacity = Math.max(capacity, 1);
+        heap = new int[capacity];
+        keys = new long[capacity];
+        positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    boolean isEmpty() { return size == 0; }
+
+    int size() { return size; }
+
+    boolean contains(int id) {
+        return id < positions.length && positions[id] >= 0;
+    }
+
+    /**
+     * Removes all elements in O(size), so that the heap can be reused
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+
+        size = 0;
+    }
+
+    /**
+     * @return the key of the minimal element, the heap must not be empty
+     */
+    long peekKey() { return keys[heap[0]]; }
+
+    /**
+     * Inserts {@code id} or decreases its key if it is already queued. Does nothing if the id is queued with
+     * a key not greater than {@code key}.
+     */
+    void offer(int id, long key) {
+        ensureCapacity(id + 1);
+        int pos = positions[id];
+
+        if (pos < 0) {
+            pos = size++;
+            heap[pos] = id;
+            positions[id] = pos;
+        } else if (keys[id] <= key) {
+            return;
+        }
+
+        keys[id] = key;
+        siftUp(pos);
+    }
+
+    /**
+     * Removes the element with the minimal key, the heap must not be empty
+     * @return the id of the removed element
+     */
+    int poll() {
+        int top = heap[0];
+        positions[top] = -1;
+
+        if (--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return top;
+    }
+
+    private void siftUp(int pos) {
+        int id = heap[pos];
+        long key = keys[id];
+
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            int parentId = heap[parent];
+
+            if (keys[parentId] <= key) {
+                break;
+            }
+
+            heap[pos] = parentId;
+            positions[parentId] = pos;
+            pos = parent;
+        }
+
+        heap[pos] = id;
+        positions[id] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int id = heap[pos];
+        long key = keys[id];
+        int half = size >>> 1;
+
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+
+            int childId = heap[child];
+
+            if (key <= keys[childId]) {
+                break;
+            }
+
+            heap[pos] = childId;
+            positions[childId] = pos;
+            pos = child;
+        }
+
+        heap[pos] = id;
+        positions[id] = pos;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= positions.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, positions.length * 2);
+        int oldCapacity = positions.length;
+        heap = Arrays.copyOf(heap, newCapacity);
+        keys = Arrays.copyOf(keys, newCapacity);
+        positions = Arrays.copyOf(positions, newCapacity);
+        Arrays.fill(positions, oldCapacity, newCapacity, -1);
+    }
+}
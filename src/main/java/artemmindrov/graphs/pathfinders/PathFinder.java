@@ -19,4 +19,17 @@ public interface PathFinder<V> {
      * are non-existent or no path exists between them
      */
     List<Edge<V>> getPath(Graph<V> graph, V source, V dest);
+
+    /**
+     * A flavor of {@link PathFinder#getPath(Graph, Object, Object)} which also records the work done by the search
+     * into {@code stats}. Path finders which don't override it record nothing.
+     * @param graph the graph to search in
+     * @param source start vertex
+     * @param dest end vertex
+     * @param stats counters to update
+     * @return same as {@link PathFinder#getPath(Graph, Object, Object)}
+     */
+    default List<Edge<V>> getPath(Graph<V> graph, V source, V dest, QueryStats stats) {
+        return getPath(graph, source, dest);
+    }
 }
@@ -0,0 +1,70 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.GraphSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+final class Paths {
+    private Paths() {}
+
+    /**
+     * Restores a path from the predecessor arrays produced by a snapshot path finder
+     * @param predecessors predecessor vertex ids, -1 for the path's source
+     * @param predecessorEdges indices of the edges leading to each vertex from its predecessor
+     * @param dest id of the path's end vertex
+     */
+    static <V> List<Edge<V>> path(GraphSnapshot<V> snapshot, int[] predecessors, int[] predecessorEdges, int dest) {
+        List<Edge<V>> path = new ArrayList<>();
+
+        for (int v = dest; predecessors[v] >= 0; v = predecessors[v]) {
+            path.add(snapshot.edge(predecessors[v], predecessorEdges[v]));
+        }
+
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Restores a path from the predecessor arrays produced by a graph path finder
+     * @param predecessors predecessor vertex ids, -1 for the path's source
+     * @param predecessorEdges the edges leading to each vertex from its predecessor
+     * @param dest id of the path's end vertex
+     */
+    static <V> List<Edge<V>> path(int[] predecessors, Edge<V>[] predecessorEdges, int dest) {
+        List<Edge<V>> path = new ArrayList<>();
+
+        for (int v = dest; predecessors[v] >= 0; v = predecessors[v]) {
+            path.add(predecessorEdges[v]);
+        }
+
+        Collections.reverse(path);
+        return path;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> Edge<V>[] edges(int size) {
+        return (Edge<V>[]) new Edge[size];
+    }
+
+    /**
+     * Restores a path found by a bidirectional search meeting at vertex {@code meet}
+     * @param predecessors forward search's predecessor vertex ids, -1 for the path's source
+     * @param predecessorEdges the edges leading to each vertex from its forward predecessor
+     * @param successors backward search's successor vertex ids, -1 for the path's end
+     * @param successorEdges the edges leading from each vertex to its backward successor
+     * @param meet id of the vertex where the searches met
+     */
+    static <V> List<Edge<V>> path(int[] predecessors, Edge<V>[] predecessorEdges,
+                                  int[] successors, Edge<V>[] successorEdges, int meet) {
+        List<Edge<V>> path = path(predecessors, predecessorEdges, meet);
+
+        for (int v = meet; successors[v] >= 0; v = successors[v]) {
+            path.add(successorEdges[v]);
+        }
+
+        return path;
+    }
+}
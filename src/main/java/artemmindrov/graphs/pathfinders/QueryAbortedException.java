@@ -0,0 +1,19 @@
+package artemmindrov.graphs.pathfinders;
+
+/**
+ * Thrown by path finders when a query exceeds a limit of its {@link QueryContext} or is cancelled. The query's
+ * partial results are discarded.
+ */
+public class QueryAbortedException extends RuntimeException {
+    private final QueryStatus status;
+
+    public QueryAbortedException(QueryStatus status) {
+        super("Query aborted: " + status);
+        this.status = status;
+    }
+
+    /**
+     * @return the reason the query was aborted for, never {@link QueryStatus#COMPLETED}
+     */
+    public QueryStatus status() { return status; }
+}
@@ -0,0 +1,111 @@
+package artemmindrov.graphs.pathfinders;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits for path queries: a timeout, a maximum number of relaxed edges and a {@link CancellationToken}. Limits are
+ * enforced by path finders which record their work into {@link QueryStats} created with
+ * {@link QueryStats#QueryStats(QueryContext)}, which all built-in path finders do. The relaxation budget is
+ * checked on every relaxed edge, while the timeout and the token are only checked every
+ * {@link QueryContext#CHECK_INTERVAL} settled vertices and relaxed edges, to keep the cost of the checks low.
+ * Path finders spreading a query over several threads check the limits between parallel phases.
+ */
+public final class QueryContext {
+    /**
+     * Maximum number of settled vertices and relaxed edges between checks of the timeout and the token
+     */
+    public static final int CHECK_INTERVAL = 1024;
+
+    private static final QueryContext UNLIMITED = builder().build();
+
+    private final long timeoutNanos;
+    private final long maxRelaxations;
+    private final CancellationToken token;
+
+    private QueryContext(long timeoutNanos, long maxRelaxations, CancellationToken token) {
+        this.timeoutNanos = timeoutNanos;
+        this.maxRelaxations = maxRelaxations;
+        this.token = token;
+    }
+
+    /**
+     * @return a context without any limits
+     */
+    public static QueryContext unlimited() { return UNLIMITED; }
+
+    /**
+     * @return maximum time a query may take in nanoseconds, counted from the moment its {@link QueryStats} are
+     * created, {@link Long#MAX_VALUE} if unlimited
+     */
+    public long timeoutNanos() { return timeoutNanos; }
+
+    /**
+     * @return maximum number of edges a query may relax, {@link Long#MAX_VALUE} if unlimited
+     */
+    public long maxRelaxations() { return maxRelaxations; }
+
+    /**
+     * @return the token to cancel queries with, null if there is none
+     */
+    public CancellationToken token() { return token; }
+
+    /**
+     * @return a {@link Builder} instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Helper class to create {@link QueryContext} instances
+     */
+    public static class Builder {
+        private long timeoutNanos = Long.MAX_VALUE, maxRelaxations = Long.MAX_VALUE;
+        private CancellationToken token;
+
+        public Builder() {}
+
+        /**
+         * @param timeout maximum time a query may take (unlimited by default)
+         * @param unit time unit of {@code timeout}
+         * @return self
+         */
+        public Builder timeout(long timeout, TimeUnit unit) {
+            if (timeout <= 0) {
+                throw new IllegalArgumentException("Timeout should be positive");
+            }
+
+            timeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        /**
+         * @param max maximum number of edges a query may relax (unlimited by default)
+         * @return self
+         */
+        public Builder maxRelaxations(long max) {
+            if (max < 0) {
+                throw new IllegalArgumentException("Relaxation budget should not be negative");
+            }
+
+            maxRelaxations = max;
+            return this;
+        }
+
+        /**
+         * @param token token to cancel queries with (none by default)
+         * @return self
+         */
+        public Builder cancellation(CancellationToken token) {
+            this.token = token;
+            return this;
+        }
+
+        /**
+         * @return {@link QueryContext} instance based on properties set previously
+         */
+        public QueryContext build() {
+            return new QueryContext(timeoutNanos, maxRelaxations, token);
+        }
+    }
+}
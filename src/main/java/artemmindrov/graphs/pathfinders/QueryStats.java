@@ -0,0 +1,113 @@
+package artemmindrov.graphs.pathfinders;
+
+/**
+ * Counters of the work done by a single path query, see
+ * {@link PathFinder#getPath(artemmindrov.graphs.Graph, Object, Object, QueryStats)}. Path finders update it from their
+ * inner loops, so it is not thread safe: finders spreading a query over several threads update it from one of them.
+ * Counters created for a {@link QueryContext} also enforce its limits, aborting the query with a
+ * {@link QueryAbortedException} from the update which exceeds them.
+ */
+public final class QueryStats {
+    private final long started, timeoutNanos, maxRelaxations;
+    private final CancellationToken token;
+    private long settled, relaxed;
+    // updates left until the limits are checked next
+    private long countdown;
+
+    public QueryStats() {
+        this(QueryContext.unlimited());
+    }
+
+    /**
+     * @param context limits to enforce, the timeout is counted from now
+     */
+    public QueryStats(QueryContext context) {
+        timeoutNanos = context.timeoutNanos();
+        maxRelaxations = context.maxRelaxations();
+        token = context.token();
+        started = timeoutNanos == Long.MAX_VALUE ? 0 : System.nanoTime();
+        boolean isLimited = timeoutNanos != Long.MAX_VALUE || maxRelaxations != Long.MAX_VALUE || token != null;
+        countdown = isLimited ? nextCheck() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Records a vertex being settled, i.e. having its outgoing (or incoming, for backward searches) edges scanned
+     * @throws QueryAbortedException if the query has exceeded a limit of its {@link QueryContext}
+     */
+    public void settle() {
+        settled++;
+
+        if (--countdown <= 0) {
+            check();
+        }
+    }
+
+    /**
+     * Records an edge being relaxed, whether or not it improved the distance of its sink
+     * @throws QueryAbortedException if the query has exceeded a limit of its {@link QueryContext}
+     */
+    public void relax() {
+        relaxed++;
+
+        if (--countdown <= 0) {
+            check();
+        }
+    }
+
+    void settle(int count) {
+        settled += count;
+        countdown -= count;
+
+        if (countdown <= 0) {
+            check();
+        }
+    }
+
+    void relax(long count) {
+        relaxed += count;
+        countdown -= count;
+
+        if (countdown <= 0) {
+            check();
+        }
+    }
+
+    private void check() {
+        if (relaxed > maxRelaxations) {
+            throw new QueryAbortedException(QueryStatus.BUDGET_EXCEEDED);
+        }
+
+        if (token != null && token.isCancelled()) {
+            throw new QueryAbortedException(QueryStatus.CANCELLED);
+        }
+
+        if (timeoutNanos != Long.MAX_VALUE && System.nanoTime() - started > timeoutNanos) {
+            throw new QueryAbortedException(QueryStatus.TIMED_OUT);
+        }
+
+        countdown = nextCheck();
+    }
+
+    /**
+     * @return updates until the next check, which is no later than the relaxation exceeding the budget
+     */
+    private long nextCheck() {
+        long remaining = maxRelaxations - relaxed;
+        return remaining < QueryContext.CHECK_INTERVAL ? remaining + 1 : QueryContext.CHECK_INTERVAL;
+    }
+
+    /**
+     * @return number of vertices settled so far
+     */
+    public long settledVertices() { return settled; }
+
+    /**
+     * @return number of edges relaxed so far
+     */
+    public long relaxedEdges() { return relaxed; }
+
+    @Override
+    public String toString() {
+        return "QueryStats{settled=" + settled + ", relaxed=" + relaxed + "}";
+    }
+}
@@ -0,0 +1,23 @@
+package artemmindrov.graphs.pathfinders;
+
+/**
+ * Outcome of a path query run under a {@link QueryContext}
+ */
+public enum QueryStatus {
+    /**
+     * The query ran to completion
+     */
+    COMPLETED,
+    /**
+     * The query was aborted as it ran past its deadline
+     */
+    TIMED_OUT,
+    /**
+     * The query was aborted as it relaxed more edges than allowed
+     */
+    BUDGET_EXCEEDED,
+    /**
+     * The query was aborted as its {@link CancellationToken} was cancelled
+     */
+    CANCELLED
+}
@@ -0,0 +1,66 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shortest paths from a single source vertex to every vertex of a graph, as computed by a
+ * {@link SingleSourcePathFinder}. Distances and predecessors are kept in flat arrays indexed by vertex id.
+ * Vertices added to the graph after the tree was computed are considered unreachable.
+ * @param <V> user defined vertex type
+ */
+public final class ShortestPathTree<V> {
+    /**
+     * Distance reported for vertices that are unreachable from the source
+     */
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final Graph<V> graph;
+    private final V source;
+    private final long[] distances;
+    private final int[] predecessors;
+    private final Edge<V>[] predecessorEdges;
+
+    ShortestPathTree(Graph<V> graph, V source, long[] distances, int[] predecessors, Edge<V>[] predecessorEdges) {
+        this.graph = graph;
+        this.source = source;
+        this.distances = distances;
+        this.predecessors = predecessors;
+        this.predecessorEdges = predecessorEdges;
+    }
+
+    /**
+     * @return the tree's source vertex
+     */
+    public V source() { return source; }
+
+    /**
+     * @param vertex the vertex to look up
+     * @return the weight of the shortest path from the source to the vertex, 0 for the source itself, or
+     * {@link ShortestPathTree#UNREACHABLE} if there is no path or the vertex is non-existent
+     */
+    public long distanceTo(V vertex) {
+        int id = graph.idOf(vertex);
+        return id < 0 || id >= distances.length ? UNREACHABLE : distances[id];
+    }
+
+    /**
+     * @param vertex the vertex to look up
+     * @return whether there is a path from the source to the vertex
+     */
+    public boolean hasPathTo(V vertex) {
+        return distanceTo(vertex) != UNREACHABLE;
+    }
+
+    /**
+     * @param vertex the vertex to look up
+     * @return a list of edges from the source to the vertex, an empty list if the vertex is the source itself,
+     * is non-existent or unreachable
+     */
+    public List<Edge<V>> pathTo(V vertex) {
+        return hasPathTo(vertex) ? Paths.path(predecessors, predecessorEdges, graph.idOf(vertex)) : new ArrayList<>();
+    }
+}
@@ -0,0 +1,29 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Graph;
+
+/**
+ * A {@link PathFinder} which can also compute shortest paths from a source vertex to all other vertices at once
+ * @param <V> user defined vertex type
+ */
+public interface SingleSourcePathFinder<V> extends PathFinder<V> {
+    /**
+     * Find shortest paths from a vertex to all vertices of a graph
+     * @param graph the graph to search in
+     * @param source start vertex, should be an existing vertex
+     * @return a {@link ShortestPathTree} for the source
+     */
+    ShortestPathTree<V> shortestPaths(Graph<V> graph, V source);
+
+    /**
+     * A flavor of {@link SingleSourcePathFinder#shortestPaths(Graph, Object)} which also records the work done by
+     * the search into {@code stats}. Path finders which don't override it record nothing.
+     * @param graph the graph to search in
+     * @param source start vertex, should be an existing vertex
+     * @param stats counters to update
+     * @return a {@link ShortestPathTree} for the source
+     */
+    default ShortestPathTree<V> shortestPaths(Graph<V> graph, V source, QueryStats stats) {
+        return shortestPaths(graph, source);
+    }
+}
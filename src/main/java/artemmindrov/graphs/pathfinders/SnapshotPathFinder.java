@@ -0,0 +1,22 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.GraphSnapshot;
+
+import java.util.List;
+
+/**
+ * A {@link PathFinder} counterpart operating on immutable {@link GraphSnapshot}s
+ * @param <V> user defined vertex type
+ */
+public interface SnapshotPathFinder<V> {
+    /**
+     * Find a path between any two vertices of a snapshot as a list of {@link Edge}s
+     * @param snapshot the snapshot to search in
+     * @param source start vertex
+     * @param dest end vertex
+     * @return should return the list of edges if a path exists, or an empty list in case any of the provided vertices
+     * are non-existent or no path exists between them
+     */
+    List<Edge<V>> getPath(GraphSnapshot<V> snapshot, V source, V dest);
+}
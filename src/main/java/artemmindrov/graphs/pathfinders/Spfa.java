@@ -0,0 +1,122 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import artemmindrov.graphs.GraphSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class Spfa<V> implements SingleSourcePathFinder<V>, SnapshotPathFinder<V> {
+    /**
+     * This is an implementation of the queue-based Bellman-Ford flavor known as
+     * <a href="https://en.wikipedia.org/wiki/Shortest_Path_Faster_Algorithm">SPFA</a>: only edges going out of
+     * vertices whose distance has changed are relaxed again. Negative weights are supported.
+     * @throws IllegalStateException in case a negative weight cycle is detected
+     */
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest) {
+        return getPath(graph, source, dest, new QueryStats());
+    }
+
+    @Override
+    public List<Edge<V>> getPath(Graph<V> graph, V source, V dest, QueryStats stats) {
+        return shortestPaths(graph, source, stats).pathTo(dest);
+    }
+
+    /**
+     * Computes shortest paths to all vertices reachable from {@code source} with the same algorithm
+     */
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source) {
+        return shortestPaths(graph, source, new QueryStats());
+    }
+
+    @Override
+    public ShortestPathTree<V> shortestPaths(Graph<V> graph, V source, QueryStats stats) {
+        int n = graph.vertexCount();
+        int from = graph.idOf(source);
+        long[] distances = new long[n];
+        int[] predecessors = new int[n];
+        Edge<V>[] predecessorEdges = Paths.edges(n);
+        int[] lengths = new int[n];
+        VertexQueue queue = new VertexQueue(n);
+
+        Arrays.fill(distances, Long.MAX_VALUE);
+        Arrays.fill(predecessors, -1);
+        distances[from] = 0;
+        queue.add(from);
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            stats.settle();
+
+            for (Edge<V> e : graph.outEdges(graph.vertexOf(u))) {
+                stats.relax();
+                int v = graph.idOf(e.sink());
+                long distance = distances[u] + e.weight();
+
+                if (v < n && distance < distances[v]) {
+                    distances[v] = distance;
+                    predecessors[v] = u;
+                    predecessorEdges[v] = e;
+                    lengths[v] = lengths[u] + 1;
+
+                    if (lengths[v] >= n) {
+                        throw new IllegalStateException("Negative weight cycle detected");
+                    }
+
+                    queue.add(v);
+                }
+            }
+        }
+
+        return new ShortestPathTree<>(graph, source, distances, predecessors, predecessorEdges);
+    }
+
+    /**
+     * A flavor of {@link Spfa#getPath(Graph, Object, Object)} operating on the snapshot's primitive arrays
+     * @throws IllegalStateException in case a negative weight cycle is detected
+     */
+    @Override
+    public List<Edge<V>> getPath(GraphSnapshot<V> snapshot, V source, V dest) {
+        int n = snapshot.vertexCount();
+        int from = snapshot.idOf(source), to = snapshot.idOf(dest);
+        long[] distances = new long[n];
+        int[] predecessors = new int[n];
+        int[] predecessorEdges = new int[n];
+        int[] lengths = new int[n];
+        VertexQueue queue = new VertexQueue(n);
+
+        Arrays.fill(distances, Long.MAX_VALUE);
+        Arrays.fill(predecessors, -1);
+        distances[from] = 0;
+        queue.add(from);
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+
+            for (int e = snapshot.edgesFrom(u), end = snapshot.edgesTo(u); e < end; e++) {
+                int v = snapshot.target(e);
+                long distance = distances[u] + snapshot.weight(e);
+
+                if (distance < distances[v]) {
+                    distances[v] = distance;
+                    predecessors[v] = u;
+                    predecessorEdges[v] = e;
+                    lengths[v] = lengths[u] + 1;
+
+                    if (lengths[v] >= n) {
+                        throw new IllegalStateException("Negative weight cycle detected");
+                    }
+
+                    queue.add(v);
+                }
+            }
+        }
+
+        return distances[to] == Long.MAX_VALUE
+                ? new ArrayList<>() : Paths.path(snapshot, predecessors, predecessorEdges, to);
+    }
+}
@@ -0,0 +1,35 @@
+package artemmindrov.graphs.pathfinders;
+
+/**
+ * A FIFO queue of int vertex ids in the {@code [0, capacity)} range backed by a ring buffer. Adding a vertex
+ * that is already queued has no effect, so the queue never holds more than {@code capacity} elements.
+ */
+final class VertexQueue {
+    private final int[] buffer;
+    private final boolean[] queued;
+    private int head, size;
+
+    VertexQueue(int capacity) {
+        buffer = new int[Math.max(capacity, 1)];
+        queued = new boolean[capacity];
+    }
+
+    boolean isEmpty() { return size == 0; }
+
+    void add(int id) {
+        if (queued[id]) {
+            return;
+        }
+
+        queued[id] = true;
+        buffer[(head + size++) % buffer.length] = id;
+    }
+
+    int poll() {
+        int id = buffer[head];
+        head = (head + 1) % buffer.length;
+        size--;
+        queued[id] = false;
+        return id;
+    }
+}
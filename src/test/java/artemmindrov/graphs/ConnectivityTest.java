@@ -0,0 +1,203 @@
+package artemmindrov.graphs;
+
+import artemmindrov.graphs.pathfinders.Dijkstra;
+import artemmindrov.graphs.pathfinders.PathFinder;
+import artemmindrov.graphs.pathfinders.ShortestPathTree;
+import artemmindrov.graphs.pathfinders.SingleSourcePathFinder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConnectivityTest {
+    private Graph<Integer> graph(boolean directed, int vertices) {
+        Graph<Integer> graph = Graph.<Integer>builder().directed(directed).build();
+
+        for (int v = 0; v < vertices; v++) {
+            graph.addVertex(v);
+        }
+
+        return graph;
+    }
+
+    private void assertMatchesDijkstra(Graph<Integer> graph, int vertices) {
+        SingleSourcePathFinder<Integer> dijkstra = new Dijkstra<>();
+
+        for (int u = 0; u < vertices; u++) {
+            ShortestPathTree<Integer> tree = dijkstra.shortestPaths(graph, u);
+
+            for (int v = 0; v < vertices; v++) {
+                assertEquals(tree.hasPathTo(v), graph.isReachable(u, v));
+            }
+        }
+    }
+
+    @Test
+    public void tracksComponentsOfUndirectedGraphs() {
+        Graph<Integer> graph = graph(false, 5);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(2, 3, 1);
+        assertTrue(graph.isReachable(1, 0));
+        assertFalse(graph.isReachable(1, 2));
+
+        graph.addEdge(3, 1, 1);
+        assertTrue(graph.isReachable(0, 2));
+        assertFalse(graph.isReachable(0, 4));
+        assertTrue(graph.isReachable(4, 4));
+    }
+
+    @Test
+    public void respectsEdgeDirection() {
+        Graph<Integer> graph = graph(true, 4);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 1, 1);
+        assertTrue(graph.isReachable(0, 2));
+        assertFalse(graph.isReachable(2, 0));
+        assertTrue(graph.isReachable(2, 1));
+
+        graph.addEdge(2, 0, 1);
+        assertTrue(graph.isReachable(2, 0));
+        assertFalse(graph.isReachable(0, 3));
+    }
+
+    @Test
+    public void matchesDijkstraOnRandomGraphs() {
+        Random random = new Random(19);
+
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer> graph = graph(directed, 150);
+
+            for (int i = 0; i < 160; i++) {
+                graph.addEdge(random.nextInt(150), random.nextInt(150), random.nextInt(10));
+            }
+
+            assertMatchesDijkstra(graph, 150);
+        }
+    }
+
+    @Test
+    public void tracksGraphsAsTheyGrow() {
+        Random random = new Random(37);
+        Graph<Integer> graph = graph(true, 150);
+
+        for (int round = 0; round < 8; round++) {
+            for (int i = 0; i < 25; i++) {
+                graph.addEdge(random.nextInt(150), random.nextInt(150), 1);
+            }
+
+            assertMatchesDijkstra(graph, 150);
+        }
+    }
+
+    @Test
+    public void connectsConcurrentlyAddedEdges() {
+        Random random = new Random(23);
+
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer> graph = graph(directed, 2000);
+            List<Edge<Integer>> edges = new ArrayList<>();
+
+            for (int i = 0; i < 2400; i++) {
+                edges.add(Edge.of(random.nextInt(2000), random.nextInt(2000), 1));
+            }
+
+            graph.addEdges(edges);
+            assertMatchesDijkstra(graph, 200);
+        }
+    }
+
+    @Test
+    public void skipsPathFindersForUnreachablePairs() {
+        Graph<Integer> graph = graph(true, 4);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        AtomicInteger searches = new AtomicInteger();
+        PathFinder<Integer> dijkstra = new Dijkstra<>();
+        PathFinder<Integer> counting = (g, source, dest) -> {
+            searches.incrementAndGet();
+            return dijkstra.getPath(g, source, dest);
+        };
+
+        assertTrue(graph.getPath(counting, 0, 3).isEmpty());
+        assertEquals(0, searches.get());
+        assertEquals(2, graph.getPath(counting, 0, 2).size());
+        assertEquals(1, searches.get());
+
+        // within one connected component, but against the order of strongly connected components
+        assertTrue(graph.getPath(counting, 2, 0).isEmpty());
+        assertEquals(1, searches.get());
+
+        graph.addEdge(2, 0, 1);
+        assertEquals(1, graph.getPath(counting, 2, 0).size());
+        assertEquals(2, searches.get());
+        assertEquals(2, graph.getPath(counting, 1, 0).size());
+        assertEquals(3, searches.get());
+    }
+
+    @Test
+    public void mergesComponentsOnCycles() {
+        Graph<Integer> graph = graph(true, 6);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(4, 5, 1);
+        assertFalse(graph.isReachable(5, 0));
+
+        graph.addEdge(4, 1, 1);
+        assertTrue(graph.isReachable(3, 2));
+        assertFalse(graph.isReachable(1, 0));
+        assertFalse(graph.isReachable(5, 1));
+        assertTrue(graph.isReachable(0, 5));
+
+        graph.addEdge(5, 0, 1);
+        assertMatchesDijkstra(graph, 6);
+    }
+
+    @Test
+    public void rebuildsOrderDroppedByCostlyReorders() {
+        Random random = new Random(7);
+        Graph<Integer> graph = graph(true, 2000);
+        AtomicInteger searches = new AtomicInteger();
+        PathFinder<Integer> dijkstra = new Dijkstra<>();
+        PathFinder<Integer> counting = (g, source, dest) -> {
+            searches.incrementAndGet();
+            return dijkstra.getPath(g, source, dest);
+        };
+
+        // reorders scan most of the graph while a giant component forms, until the order is dropped
+        for (int i = 0; i < 3000; i++) {
+            graph.addEdge(random.nextInt(2000), random.nextInt(2000), 1);
+        }
+
+        assertMatchesDijkstra(graph, 100);
+        graph.addVertex(2000);
+        graph.addVertex(2001);
+        graph.addEdge(2000, 2001, 1);
+        assertTrue(graph.getPath(counting, 2001, 2000).isEmpty());
+        assertEquals(1, searches.get());
+
+        // edges consistent with any order get it rebuilt as the graph grows
+        for (int v = 2002; v < 4000; v++) {
+            graph.addVertex(v);
+            graph.addEdge(v - 1, v, 1);
+        }
+
+        assertTrue(graph.getPath(counting, 2001, 2000).isEmpty());
+        assertEquals(1, searches.get());
+        assertTrue(graph.isReachable(2000, 3999));
+        assertMatchesDijkstra(graph, 100);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void failsForNonExistentVertices() {
+        graph(true, 2).isReachable(0, 5);
+    }
+}
@@ -0,0 +1,118 @@
+package artemmindrov.graphs;
+
+import artemmindrov.graphs.pathfinders.BellmanFord;
+import artemmindrov.graphs.pathfinders.ShortestPathTree;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class DistanceMatrixTest {
+    private Graph<Integer> graph;
+
+    @Before
+    public void setup() {
+        graph = Graph.<Integer>builder().build();
+
+        for (int v = 1; v <= 5; v++) {
+            graph.addVertex(v);
+        }
+
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 2);
+        graph.addEdge(1, 3, 5);
+        graph.addEdge(3, 4, 1);
+    }
+
+    @Test
+    public void deduplicatesSourcesAndTargets() {
+        DistanceMatrix<Integer> matrix = graph.distanceMatrix(Arrays.asList(1, 2, 1), Arrays.asList(4, 3, 4));
+
+        assertThat(matrix.sources(), contains(1, 2));
+        assertThat(matrix.targets(), contains(4, 3));
+        assertEquals(4, matrix.distance(1, 4));
+        assertEquals(3, matrix.distanceAt(0, 1));
+        assertEquals(3, matrix.distance(2, 4));
+        assertFalse(matrix.hasPaths());
+    }
+
+    @Test
+    public void reportsUnreachableTargets() {
+        DistanceMatrix<Integer> matrix = graph.distanceMatrix(Arrays.asList(1, 4), Arrays.asList(1, 5, 6));
+
+        assertEquals(0, matrix.distance(1, 1));
+        assertEquals(ShortestPathTree.UNREACHABLE, matrix.distance(1, 5));
+        assertEquals(ShortestPathTree.UNREACHABLE, matrix.distance(1, 6));
+        assertEquals(ShortestPathTree.UNREACHABLE, matrix.distance(4, 1));
+    }
+
+    @Test
+    public void keepsPathsOnRequest() {
+        DistanceMatrix<Integer> matrix = graph.distanceMatrix(new BellmanFord<>(), Collections.singleton(1),
+                Arrays.asList(1, 4), true, Runnable::run);
+
+        assertTrue(matrix.hasPaths());
+        assertTrue(matrix.path(1, 1).isEmpty());
+        assertThat(matrix.path(1, 4), is(Arrays.asList(new Edge<>(1, 2, 1), new Edge<>(2, 3, 2), new Edge<>(3, 4, 1))));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsPathQueriesWithoutPaths() {
+        graph.distanceMatrix(Collections.singleton(1), Collections.singleton(4)).path(1, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsVerticesOutsideOfTheMatrix() {
+        graph.distanceMatrix(Collections.singleton(1), Collections.singleton(4)).distance(2, 4);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void rejectsNonExistentSources() {
+        graph.distanceMatrix(Collections.singleton(6), Collections.singleton(4));
+    }
+
+    @Test
+    public void matchesSeparatePathQueries() {
+        Random random = new Random(11);
+
+        for (int v = 0; v < 100; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int i = 0; i < 400; i++) {
+            graph.addEdge(random.nextInt(100), random.nextInt(100), random.nextInt(20));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            DistanceMatrix<Integer> matrix = graph.distanceMatrix(new BellmanFord<>(), graph.vertices(),
+                    graph.vertices(), true, executor);
+
+            for (Integer source : matrix.sources()) {
+                for (Integer target : matrix.targets()) {
+                    long expected = graph.getPath(source, target).stream().mapToLong(Edge::weight).sum();
+                    long cost = matrix.path(source, target).stream().mapToLong(Edge::weight).sum();
+                    assertEquals(cost, expected);
+
+                    if (matrix.distance(source, target) != ShortestPathTree.UNREACHABLE) {
+                        assertEquals(expected, matrix.distance(source, target));
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package artemmindrov.graphs;
+
+import artemmindrov.graphs.pathfinders.BellmanFord;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class GraphSnapshotTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Graph<Integer> graph;
+
+    @Before
+    public void setup() {
+        graph = Graph.<Integer>builder().build();
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(3, 5, 2);
+        graph.addEdge(4, 6, 2);
+        graph.addEdge(5, 6, 2);
+    }
+
+    @Test
+    public void preservesVerticesAndEdges() {
+        GraphSnapshot<Integer> snapshot = graph.snapshot();
+        assertEquals(4, snapshot.vertexCount());
+        assertEquals(4, snapshot.edgeCount());
+        assertTrue(snapshot.isDirected());
+        assertTrue(snapshot.isWeighted());
+        assertEquals(-1, snapshot.idOf(8));
+
+        int id = snapshot.idOf(3);
+        assertEquals(Integer.valueOf(3), snapshot.vertexOf(id));
+
+        List<Edge<Integer>> edges = new ArrayList<>();
+
+        for (int e = snapshot.edgesFrom(id); e < snapshot.edgesTo(id); e++) {
+            edges.add(snapshot.edge(id, e));
+        }
+
+        assertThat(edges, containsInAnyOrder(new Edge<>(3, 4, 1), new Edge<>(3, 5, 2)));
+    }
+
+    @Test
+    public void isNotAffectedByLaterChanges() {
+        GraphSnapshot<Integer> snapshot = graph.snapshot();
+        graph.addVertex(7);
+        graph.addEdge(6, 7, 1);
+
+        assertEquals(4, snapshot.vertexCount());
+        assertEquals(4, snapshot.edgeCount());
+    }
+
+    @Test
+    public void findsShortestPaths() {
+        GraphSnapshot<Integer> snapshot = graph.snapshot();
+        assertThat(snapshot.getPath(3, 6), contains(new Edge<>(3, 4, 1), new Edge<>(4, 6, 2)));
+        assertTrue(snapshot.getPath(6, 3).isEmpty());
+        assertTrue(snapshot.getPath(3, 8).isEmpty());
+    }
+
+    @Test
+    public void findsShortestPathsWithNegativeEdges() {
+        graph.addEdge(5, 4, -2);
+        GraphSnapshot<Integer> snapshot = graph.snapshot();
+
+        assertTrue(snapshot.hasNegativeEdges());
+        assertThat(snapshot.getPath(3, 6), contains(new Edge<>(3, 5, 2), new Edge<>(5, 4, -2), new Edge<>(4, 6, 2)));
+        assertThat(snapshot.getPath(new BellmanFord<>(), 3, 6), contains(new Edge<>(3, 5, 2), new Edge<>(5, 4, -2), new Edge<>(4, 6, 2)));
+    }
+
+    @Test
+    public void storesUnweightedGraphsWithDefaultWeights() {
+        Graph<Integer> unweighted = Graph.<Integer>builder().directed(false).weighted(false).build();
+        unweighted.addVertex(3);
+        unweighted.addVertex(4);
+        unweighted.addEdge(3, 4);
+
+        GraphSnapshot<Integer> snapshot = unweighted.snapshot();
+        assertFalse(snapshot.isDirected());
+        assertFalse(snapshot.isWeighted());
+        assertEquals(2, snapshot.edgeCount());
+        assertThat(snapshot.getPath(4, 3), contains(new Edge<>(4, 3, 1)));
+    }
+
+    @Test
+    public void savesAndLoadsSnapshots() throws IOException {
+        graph.addEdge(5, 4, -2);
+        Path file = folder.newFile().toPath();
+        graph.save(file, VertexSerializer.INTEGER);
+
+        GraphSnapshot<Integer> loaded = GraphSnapshot.load(file, VertexSerializer.INTEGER);
+        GraphSnapshot<Integer> snapshot = graph.snapshot();
+        assertEquals(snapshot.vertexCount(), loaded.vertexCount());
+        assertEquals(snapshot.edgeCount(), loaded.edgeCount());
+        assertTrue(loaded.isDirected());
+        assertTrue(loaded.hasNegativeEdges());
+
+        for (int id = 0; id < snapshot.vertexCount(); id++) {
+            assertEquals(snapshot.vertexOf(id), loaded.vertexOf(id));
+            assertEquals(snapshot.edgesTo(id), loaded.edgesTo(id));
+
+            for (int e = snapshot.edgesFrom(id); e < snapshot.edgesTo(id); e++) {
+                assertEquals(snapshot.edge(id, e), loaded.edge(id, e));
+            }
+        }
+
+        assertThat(loaded.getPath(3, 6), contains(new Edge<>(3, 5, 2), new Edge<>(5, 4, -2), new Edge<>(4, 6, 2)));
+    }
+
+    @Test
+    public void loadsMutableGraphs() throws IOException {
+        Graph<String> unweighted = Graph.<String>builder().directed(false).weighted(false).build();
+        unweighted.addVertex("a");
+        unweighted.addVertex("b");
+        unweighted.addVertex("c");
+        unweighted.addEdge("a", "b");
+        Path file = folder.newFile().toPath();
+        unweighted.save(file, VertexSerializer.STRING);
+
+        Graph<String> loaded = Graph.load(file, VertexSerializer.STRING);
+        assertFalse(loaded.isDirected());
+        assertFalse(loaded.isWeighted());
+        assertEquals(unweighted.edges(), loaded.edges());
+        assertEquals(2, loaded.idOf("c"));
+
+        loaded.addEdge("b", "c");
+        assertThat(loaded.getPath("a", "c"), contains(new Edge<>("a", "b", 1), new Edge<>("b", "c", 1)));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsForeignFiles() throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, new byte[64]);
+        GraphSnapshot.load(file, VertexSerializer.INTEGER);
+    }
+}
@@ -1,11 +1,20 @@
 package artemmindrov.graphs;
 
+import artemmindrov.graphs.pathfinders.BellmanFord;
+import artemmindrov.graphs.pathfinders.QueryContext;
+import artemmindrov.graphs.pathfinders.QueryStatus;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -13,8 +22,10 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class GraphTest {
     private Graph<Integer> graph;
@@ -73,4 +84,221 @@ public class GraphTest {
         assertEquals(values.size(), 2);
         assertThat(values, containsInAnyOrder(3, 4));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void traversesEveryVertexInParallel() {
+        for (int v = 5; v < 10000; v++) {
+            graph.addVertex(v);
+        }
+
+        Set<Integer> values = ConcurrentHashMap.newKeySet();
+        LongAdder calls = new LongAdder();
+        graph.parallelTraverse(v -> {
+            values.add(v);
+            calls.increment();
+        }, new ForkJoinPool(3));
+        assertEquals(9997, calls.sum());
+        assertEquals(graph.vertices(), values);
+    }
+
+    @Test
+    public void streamsVerticesInIdOrder() {
+        graph.addVertex(1);
+        assertThat(graph.vertexStream().collect(Collectors.toList()), contains(3, 4, 1));
+        assertEquals(3, graph.vertexStream().parallel().count());
+    }
+
+    @Test
+    public void streamsEveryEdge() {
+        for (int v = 5; v < 1000; v++) {
+            graph.addVertex(v);
+            graph.addEdge(v - 1, v, v);
+        }
+
+        graph.addEdge(3, 4, 1);
+        assertEquals(graph.edges(), graph.edgeStream().parallel().collect(Collectors.toSet()));
+        assertEquals(996, graph.edgeStream().count());
+    }
+
+    @Test
+    public void traversesNeighbors() {
+        graph.addVertex(5);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(3, 5, 2);
+        Map<Integer, Set<Edge<Integer>>> neighbors = new ConcurrentHashMap<>();
+        graph.parallelTraverseNeighbors(neighbors::put);
+        assertThat(neighbors.get(3), containsInAnyOrder(new Edge<>(3, 4, 1), new Edge<>(3, 5, 2)));
+        assertTrue(neighbors.get(4).isEmpty());
+
+        // vertices 3, 4 and 5 in the order of their ids
+        List<Integer> degrees = new ArrayList<>();
+        graph.traverseNeighbors((v, edges) -> degrees.add(edges.size()));
+        assertThat(degrees, contains(2, 0, 0));
+    }
+
+    @Test
+    public void sortsAcyclicGraphsTopologically() {
+        graph.addVertex(5);
+        graph.addVertex(6);
+        graph.addEdge(6, 3, 1);
+        graph.addEdge(3, 5, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(6, 4, 1);
+        assertTrue(graph.isAcyclic());
+
+        List<Integer> order = graph.topologicalOrder();
+        assertThat(order, containsInAnyOrder(3, 4, 5, 6));
+
+        for (Edge<Integer> e : graph.edges()) {
+            assertTrue(order.indexOf(e.source()) < order.indexOf(e.sink()));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void failsToSortCyclicGraphs() {
+        graph.addVertex(5);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(5, 4, 1);
+        assertFalse(graph.isAcyclic());
+        graph.topologicalOrder();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void failsToSortUndirectedGraphs() {
+        Graph.<Integer>builder().directed(false).build().topologicalOrder();
+    }
+
+    @Test
+    public void reportsAbortedQueries() {
+        graph.addVertex(5);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+
+        QueryResult<Integer> result = graph.getPath(new BellmanFord<>(), 3, 5,
+                QueryContext.builder().maxRelaxations(1).build());
+        assertTrue(result.isAborted());
+        assertEquals(QueryStatus.BUDGET_EXCEEDED, result.status());
+        assertTrue(result.path().isEmpty());
+
+        result = graph.getPath(new BellmanFord<>(), 3, 5, QueryContext.unlimited());
+        assertEquals(QueryStatus.COMPLETED, result.status());
+        assertEquals(2, result.path().size());
+        assertTrue(result.stats().relaxedEdges() > 1);
+    }
+
+    @Test
+    public void indexesEdgesByVertex() {
+        graph.addVertex(5);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(3, 5, 2);
+        graph.addEdge(4, 5, 3);
+
+        assertThat(graph.outEdges(3), containsInAnyOrder(new Edge<>(3, 4, 1), new Edge<>(3, 5, 2)));
+        assertThat(graph.inEdges(5), containsInAnyOrder(new Edge<>(3, 5, 2), new Edge<>(4, 5, 3)));
+        assertEquals(2, graph.outDegree(3));
+        assertEquals(0, graph.outDegree(5));
+        assertEquals(2, graph.inDegree(5));
+        assertTrue(graph.outEdges(8).isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void returnsImmutableAdjacencyView() {
+        graph.addEdge(3, 4, 1);
+        graph.outEdges(3).add(new Edge<>(3, 3, 1));
+    }
+
+    @Test
+    public void fallsBackToBellmanFordOnNegativeEdges() {
+        graph.addVertex(5);
+        graph.addEdge(3, 4, 3);
+        graph.addEdge(3, 5, 4);
+        graph.addEdge(5, 4, -2);
+
+        assertTrue(graph.hasNegativeEdges());
+        assertThat(graph.getPath(3, 4), contains(new Edge<>(3, 5, 4), new Edge<>(5, 4, -2)));
+    }
+
+    @Test
+    public void assignsDenseVertexIds() {
+        graph.addVertex(8);
+        graph.addVertex(3);
+
+        assertEquals(3, graph.vertexCount());
+        assertEquals(0, graph.idOf(3));
+        assertEquals(1, graph.idOf(4));
+        assertEquals(2, graph.idOf(8));
+        assertEquals(-1, graph.idOf(9));
+        assertEquals(Integer.valueOf(8), graph.vertexOf(2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void failsToLookUpUnassignedIds() {
+        graph.vertexOf(2);
+    }
+
+    @Test
+    public void addsEdgesInBulk() {
+        List<Edge<Integer>> edges = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            graph.addVertex(i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            edges.add(Edge.of(i, (i + 1) % 1000, i));
+            edges.add(Edge.of(i, (i + 1) % 1000, i));
+        }
+
+        assertEquals(1000, graph.addEdges(edges));
+        assertEquals(1000, graph.edges().size());
+        assertEquals(0, graph.addEdges(edges));
+        assertThat(graph.outEdges(999), contains(new Edge<>(999, 0, 999)));
+    }
+
+    @Test
+    public void rejectsWholeBatchWithNonExistentVertices() {
+        try {
+            graph.addEdges(Arrays.asList(Edge.of(3, 4, 1), Edge.of(4, 5, 1)));
+        } catch (UnsupportedOperationException e) {
+            assertTrue(graph.edges().isEmpty());
+            return;
+        }
+
+        fail();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void rejectsWeightedEdgesInUnweightedBatches() {
+        Graph<Integer> unweighted = Graph.<Integer>builder().weighted(false).build();
+        unweighted.addVertex(3);
+        unweighted.addVertex(4);
+        assertEquals(1, unweighted.addEdges(Collections.singletonList(Edge.of(3, 4))));
+        unweighted.addEdges(Collections.singletonList(Edge.of(4, 3, 2)));
+    }
+
+    @Test
+    public void notifiesListenersOfAddedVerticesAndEdges() {
+        Graph<Integer> undirected = Graph.<Integer>builder().directed(false).build();
+        List<Object> events = Collections.synchronizedList(new ArrayList<>());
+        GraphListener<Integer> listener = new GraphListener<Integer>() {
+            @Override
+            public void vertexAdded(Integer vertex) { events.add(vertex); }
+
+            @Override
+            public void edgeAdded(Edge<Integer> edge) { events.add(edge); }
+        };
+
+        undirected.addListener(listener);
+        undirected.addVertex(3);
+        undirected.addVertex(3);
+        undirected.addVertex(4);
+        undirected.addEdge(3, 4, 2);
+        undirected.addEdge(4, 3, 2);
+        undirected.addEdges(Arrays.asList(Edge.of(3, 3, 1), Edge.of(3, 4, 2)));
+        assertTrue(undirected.removeListener(listener));
+        undirected.addEdge(4, 4, 1);
+
+        assertThat(events, contains(3, 4, new Edge<>(3, 4, 2), new Edge<>(4, 3, 2), new Edge<>(3, 3, 1)));
+    }
+}
@@ -0,0 +1,139 @@
+package artemmindrov.graphs;
+
+import artemmindrov.graphs.pathfinders.Dijkstra;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapEdgeContainerTest {
+    private static final int THREADS = 16, VERTICES = 64, INSERTS = 5000;
+
+    private static OffHeapEdgeContainer<Integer> container(int vertexCount, boolean isDirected) {
+        VertexIndex<Integer> vertices = new VertexIndex<>();
+
+        for (int v = 0; v < vertexCount; v++) {
+            vertices.add(v);
+        }
+
+        return new OffHeapEdgeContainer<>(vertices, isDirected);
+    }
+
+    @Test
+    public void storesDirectedEdges() {
+        EdgeContainer<Integer> container = container(5, true);
+
+        assertTrue(container.addEdge(3, 4, 1));
+        assertFalse(container.addEdge(3, 4, 1));
+        assertTrue(container.addEdge(3, 4, -2));
+        assertTrue(container.addEdge(2, 4, 1));
+        assertTrue(container.hasNegativeEdges());
+
+        assertEquals(3, container.edges().size());
+        assertTrue(container.edges().contains(new Edge<>(3, 4, -2)));
+        assertFalse(container.edges().contains(new Edge<>(4, 3, 1)));
+        assertThat(container.outEdges(3), containsInAnyOrder(new Edge<>(3, 4, 1), new Edge<>(3, 4, -2)));
+        assertThat(container.inEdges(4), containsInAnyOrder(new Edge<>(3, 4, 1), new Edge<>(3, 4, -2),
+                new Edge<>(2, 4, 1)));
+        assertTrue(container.outEdges(4).isEmpty());
+        assertTrue(container.outEdges(7).isEmpty());
+        assertThat(container.edges(), containsInAnyOrder(new Edge<>(3, 4, 1), new Edge<>(3, 4, -2),
+                new Edge<>(2, 4, 1)));
+    }
+
+    @Test
+    public void addsBothHalvesOfUndirectedEdges() {
+        EdgeContainer<Integer> container = container(5, false);
+
+        assertTrue(container.addEdge(3, 4, 1));
+        assertFalse(container.addEdge(4, 3, 1));
+        assertTrue(container.edges().contains(new Edge<>(4, 3, 1)));
+        assertTrue(container.addEdge(3, 3, 1));
+        assertFalse(container.isDirected());
+        assertEquals(3, container.edges().size());
+    }
+
+    @Test
+    public void keepsEdgesConsistentUnderConcurrentInserts() throws Exception {
+        EdgeContainer<Integer> container = container(VERTICES, false);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final long seed = t;
+
+            tasks.add(() -> {
+                Random random = new Random(seed);
+                int added = 0;
+
+                for (int i = 0; i < INSERTS; i++) {
+                    int source = random.nextInt(VERTICES), sink = random.nextInt(VERTICES);
+                    long weight = random.nextInt(4);
+
+                    if (container.addEdge(source, sink, weight)) {
+                        added++;
+                    }
+
+                    if (!container.outEdges(sink).contains(new Edge<>(sink, source, weight))) {
+                        throw new AssertionError("Missing reverse half of " + source + "-" + sink);
+                    }
+                }
+
+                return added;
+            });
+        }
+
+        int added = 0;
+
+        try {
+            for (Future<Integer> f : executor.invokeAll(tasks)) {
+                added += f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Set<Edge<Integer>> distinct = new HashSet<>(container.edges());
+        int loops = (int) distinct.stream().filter(e -> e.isFrom(e.sink())).count();
+        assertEquals(container.edges().size(), distinct.size());
+        assertEquals(distinct.size(), 2 * added - loops);
+    }
+
+    @Test
+    public void backsGraphsWithTheSameResults() {
+        Random random = new Random(3);
+        Graph<Integer> heap = Graph.<Integer>builder().build();
+        Graph<Integer> offHeap = Graph.<Integer>builder().offHeap(true).build();
+
+        for (int v = 0; v < 200; v++) {
+            heap.addVertex(v);
+            offHeap.addVertex(v);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            int source = random.nextInt(200), sink = random.nextInt(200), weight = random.nextInt(20);
+            assertEquals(heap.addEdge(source, sink, weight), offHeap.addEdge(source, sink, weight));
+        }
+
+        assertEquals(heap.edges(), new HashSet<>(offHeap.edges()));
+
+        for (int i = 0; i < 100; i++) {
+            int source = random.nextInt(200), dest = random.nextInt(200);
+            assertEquals(heap.shortestPaths(new Dijkstra<>(), source).distanceTo(dest),
+                    offHeap.shortestPaths(new Dijkstra<>(), source).distanceTo(dest));
+        }
+    }
+}
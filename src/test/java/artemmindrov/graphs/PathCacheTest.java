@@ -0,0 +1,102 @@
+package artemmindrov.graphs;
+
+import artemmindrov.graphs.pathfinders.Dijkstra;
+import artemmindrov.graphs.pathfinders.PathFinder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class PathCacheTest {
+    private Graph<Integer> graph;
+    private PathFinder<Integer> finder;
+    private final AtomicInteger computations = new AtomicInteger();
+
+    private Graph<Integer> graph(Graph.Builder<Integer> builder) {
+        Graph<Integer> graph = builder.build();
+
+        for (int v = 3; v <= 6; v++) {
+            graph.addVertex(v);
+        }
+
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(3, 5, 5);
+        return graph;
+    }
+
+    @Before
+    public void setup() {
+        graph = graph(Graph.<Integer>builder().pathCache(2, 0, TimeUnit.SECONDS));
+        PathFinder<Integer> dijkstra = new Dijkstra<>();
+
+        finder = (g, source, dest) -> {
+            computations.incrementAndGet();
+            return dijkstra.getPath(g, source, dest);
+        };
+    }
+
+    @Test
+    public void servesRepeatedQueriesFromCache() {
+        List<Edge<Integer>> path = graph.getPath(finder, 3, 5);
+        assertThat(graph.getPath(finder, 3, 5), contains(new Edge<>(3, 4, 1), new Edge<>(4, 5, 1)));
+        assertEquals(path, graph.getPath(finder, 3, 5));
+        assertEquals(1, computations.get());
+
+        CacheStats stats = graph.pathCacheStats();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    public void invalidatesEntriesOnModification() {
+        graph.getPath(finder, 3, 5);
+        graph.addEdge(3, 5, 1);
+
+        assertThat(graph.getPath(finder, 3, 5), contains(new Edge<>(3, 5, 1)));
+        assertEquals(2, computations.get());
+        assertEquals(1, graph.pathCacheStats().invalidations());
+
+        graph.addVertex(7);
+        graph.getPath(finder, 3, 5);
+        assertEquals(3, computations.get());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntries() {
+        graph = graph(Graph.<Integer>builder().pathCache(1, 0, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 100; i++) {
+            graph.getPath(finder, 3, 4);
+            graph.getPath(finder, 3, 5);
+            graph.getPath(finder, 4, 5);
+        }
+
+        assertEquals(300, computations.get());
+        assertEquals(299, graph.pathCacheStats().evictions());
+    }
+
+    @Test
+    public void expiresEntries() throws InterruptedException {
+        graph = graph(Graph.<Integer>builder().pathCache(16, 1, TimeUnit.MILLISECONDS));
+        graph.getPath(finder, 3, 5);
+        Thread.sleep(5);
+        graph.getPath(finder, 3, 5);
+
+        assertEquals(2, computations.get());
+        assertEquals(1, graph.pathCacheStats().evictions());
+    }
+
+    @Test
+    public void keysEntriesByFinder() {
+        graph.getPath(finder, 3, 5);
+        graph.getPath(new Dijkstra<>(), 3, 5);
+        assertEquals(2, graph.pathCacheStats().misses());
+    }
+}
@@ -0,0 +1,118 @@
+package artemmindrov.graphs;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class UndirectedEdgeContainerTest {
+    private static final int THREADS = 32, VERTICES = 64, INSERTS = 5000;
+
+    @Test
+    public void addsBothHalvesOfAnEdge() {
+        EdgeContainer<Integer> container = new UndirectedEdgeContainer<>();
+
+        assertTrue(container.addEdge(3, 4, 1));
+        assertFalse(container.addEdge(4, 3, 1));
+        assertTrue(container.edges().contains(new Edge<>(3, 4, 1)));
+        assertTrue(container.edges().contains(new Edge<>(4, 3, 1)));
+        assertTrue(container.addEdge(3, 3, 1));
+        assertEquals(3, container.edges().size());
+    }
+
+    @Test
+    public void keepsHalvesConsistentUnderConcurrentInserts() throws Exception {
+        EdgeContainer<Integer> container = new UndirectedEdgeContainer<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final long seed = t;
+
+            tasks.add(() -> {
+                Random random = new Random(seed);
+                int added = 0;
+
+                for (int i = 0; i < INSERTS; i++) {
+                    int source = random.nextInt(VERTICES), sink = random.nextInt(VERTICES);
+                    long weight = random.nextInt(2);
+
+                    if (container.addEdge(source, sink, weight)) {
+                        added++;
+                    }
+
+                    if (!container.edges().contains(new Edge<>(sink, source, weight))
+                            || !container.outEdges(sink).contains(new Edge<>(sink, source, weight))) {
+                        throw new AssertionError("Missing reverse half of " + source + "-" + sink);
+                    }
+                }
+
+                return added;
+            });
+        }
+
+        int added = 0;
+
+        try {
+            for (Future<Integer> f : executor.invokeAll(tasks)) {
+                added += f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int loops = 0;
+
+        for (Edge<Integer> e : container.edges()) {
+            assertTrue(container.edges().contains(new Edge<>(e.sink(), e.source(), e.weight())));
+
+            if (e.isFrom(e.sink())) {
+                loops++;
+            }
+        }
+
+        assertEquals(container.edges().size(), 2 * added - loops);
+    }
+
+    @Test
+    public void spreadsSequentialPairsAcrossStripes() {
+        int side = 128;
+        int[] path = new int[UndirectedEdgeContainer.STRIPES];
+        int[] grid = new int[UndirectedEdgeContainer.STRIPES];
+
+        for (int v = 0; v < side * side - 1; v++) {
+            path[EdgeContainer.stripe(v, v + 1, path.length)]++;
+        }
+
+        for (int v = 0; v < side * side; v++) {
+            if (v % side != side - 1) {
+                grid[EdgeContainer.stripe(v, v + 1, grid.length)]++;
+            }
+
+            if (v + side < side * side) {
+                grid[EdgeContainer.stripe(v + side, v, grid.length)]++;
+            }
+        }
+
+        assertEvenlySpread(path, side * side - 1);
+        assertEvenlySpread(grid, 2 * side * (side - 1));
+    }
+
+    private static void assertEvenlySpread(int[] stripes, int pairs) {
+        int expected = pairs / stripes.length;
+
+        for (int count : stripes) {
+            assertTrue("stripe holds " + count + " of " + pairs + " pairs",
+                    count > expected / 2 && count < expected * 2);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package artemmindrov.graphs.io;
+
+import artemmindrov.graphs.Graph;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class EdgeListExporterTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writesWeightedEdges() throws IOException {
+        Graph<Integer> graph = Graph.<Integer>builder().build();
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 4);
+        graph.addEdge(2, 1, -3);
+        Path file = folder.newFile().toPath();
+
+        TransferStats stats = new EdgeListExporter<Integer>().write(graph, file);
+
+        assertEquals(2, stats.edges());
+        assertThat(Files.readAllLines(file, StandardCharsets.UTF_8), containsInAnyOrder("1\t2\t4", "2\t1\t-3"));
+    }
+
+    @Test
+    public void writesOneHalfOfUndirectedEdges() throws IOException {
+        Graph<String> graph = Graph.<String>builder().directed(false).weighted(false).build();
+        graph.addVertex("a");
+        graph.addVertex("b");
+        graph.addVertex("c");
+        graph.addEdge("a", "b");
+        graph.addEdge("c", "b");
+        Path file = folder.newFile().toPath();
+
+        new EdgeListExporter<String>(s -> s, ',').write(graph, file);
+
+        assertThat(Files.readAllLines(file, StandardCharsets.UTF_8), containsInAnyOrder("a,b", "b,c"));
+    }
+
+    @Test
+    public void roundTripsThroughImporter() throws IOException {
+        Graph<Integer> graph = Graph.<Integer>builder().directed(false).build();
+
+        for (int v = 0; v < 50; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int v = 1; v < 50; v++) {
+            graph.addEdge(v, v / 2, v % 5 - 1);
+        }
+
+        Path file = folder.newFile().toPath();
+        new EdgeListExporter<Integer>().write(graph, file);
+        Graph<Integer> imported = Graph.<Integer>builder().directed(false).build();
+        EdgeListImporter.builder(Integer::valueOf).build().read(file, imported);
+
+        assertEquals(graph.edges(), imported.edges());
+    }
+}
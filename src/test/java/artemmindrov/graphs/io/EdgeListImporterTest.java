@@ -0,0 +1,88 @@
+package artemmindrov.graphs.io;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class EdgeListImporterTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path write(String... lines) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    public void importsWeightedEdgeLists() throws IOException {
+        Graph<Integer> graph = Graph.<Integer>builder().build();
+        Path file = write("# comment", "1 2 5", "", "2\t3\t-1", "3,1", "1 2 5");
+
+        TransferStats stats = EdgeListImporter.builder(Integer::valueOf).threads(2).batchSize(2).build()
+                .read(file, graph);
+
+        assertEquals(6, stats.lines());
+        assertEquals(3, stats.edges());
+        assertThat(graph.edges(), containsInAnyOrder(Edge.of(1, 2, 5), Edge.of(2, 3, -1),
+                Edge.of(3, 1)));
+    }
+
+    @Test
+    public void ignoresWeightsOfUnweightedGraphs() throws IOException {
+        Graph<String> graph = Graph.<String>builder().weighted(false).directed(false).build();
+        Path file = write("source,sink,weight", "a,b,7", "b,c");
+
+        EdgeListImporter.builder(s -> s).skipLines(1).build().read(file, graph);
+
+        assertEquals(3, graph.vertexCount());
+        assertEquals(4, graph.edges().size());
+        assertEquals(2, graph.getPath("a", "c").size());
+    }
+
+    @Test
+    public void importsLargeFilesInBatches() throws IOException {
+        List<String> lines = new ArrayList<>();
+
+        for (int i = 0; i < 10000; i++) {
+            lines.add(i + " " + (i + 1) + " " + (i % 7));
+        }
+
+        Graph<Integer> graph = Graph.<Integer>builder().build();
+        Path file = folder.newFile().toPath();
+        Files.write(file, lines, StandardCharsets.UTF_8);
+
+        TransferStats stats = EdgeListImporter.builder(Integer::valueOf).threads(4).batchSize(100)
+                .queueCapacity(2).build().read(file, graph);
+
+        assertEquals(10000, stats.edges());
+        assertEquals(10001, graph.vertexCount());
+        assertEquals(10000, graph.getPath(0, 10000).size());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsMalformedLines() throws IOException {
+        Graph<Integer> graph = Graph.<Integer>builder().build();
+        EdgeListImporter.builder(Integer::valueOf).build().read(write("1 2 3", "1 x 2"), graph);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsLinesWithoutSinks() throws IOException {
+        Graph<Integer> graph = Graph.<Integer>builder().build();
+        EdgeListImporter.builder(Integer::valueOf).build().read(write("1"), graph);
+    }
+}
@@ -0,0 +1,41 @@
+package artemmindrov.graphs.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class HistogramTest {
+    @Test
+    public void reportsEmptyHistograms() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.mean(), 0);
+        assertEquals(0, histogram.percentile(0.99));
+    }
+
+    @Test
+    public void computesPercentilesWithinPowerOfTwoBuckets() {
+        Histogram histogram = new Histogram();
+
+        for (int i = 0; i < 99; i++) {
+            histogram.record(10);
+        }
+
+        histogram.record(5000);
+        histogram.record(-3);
+
+        assertEquals(101, histogram.count());
+        assertEquals(5990, histogram.sum());
+        assertEquals(5000, histogram.max());
+        assertEquals(15, histogram.percentile(0.5));
+        assertEquals(15, histogram.percentile(0.98));
+        assertEquals(5000, histogram.percentile(1));
+    }
+
+    @Test
+    public void recordsExtremeValues() {
+        Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.percentile(0.5));
+    }
+}
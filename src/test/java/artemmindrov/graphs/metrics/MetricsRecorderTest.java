@@ -0,0 +1,111 @@
+package artemmindrov.graphs.metrics;
+
+import artemmindrov.graphs.Graph;
+import artemmindrov.graphs.pathfinders.BellmanFord;
+import artemmindrov.graphs.pathfinders.Dijkstra;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsRecorderTest {
+    private MetricsRecorder recorder;
+    private Graph<Integer> graph;
+
+    @Before
+    public void setup() {
+        recorder = new MetricsRecorder();
+        graph = Graph.<Integer>builder().directed(false).metrics(recorder).build();
+
+        for (int v = 0; v < 4; v++) {
+            graph.addVertex(v);
+        }
+
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(0, 1, 1);
+    }
+
+    @Test
+    public void recordsQueriesPerPathFinder() {
+        graph.getPath(new Dijkstra<>(), 0, 2);
+        graph.getPath(new Dijkstra<>(), 0, 3);
+        graph.getPath(new BellmanFord<>(), 0, 2);
+        graph.getPath(0, 0);
+
+        FinderMetrics dijkstra = recorder.finders().get("Dijkstra");
+        assertEquals(1, dijkstra.getQueries());
+        assertEquals(2, recorder.finders().size());
+        // the query to unreachable vertex 3 is answered without a search, the one to 2 settles 0 and 1
+        // relaxing their three edge halves
+        assertEquals(2, dijkstra.settledVertices().max());
+        assertEquals(3, dijkstra.relaxedEdges().max());
+        assertEquals(Integer.valueOf(0), dijkstra.slowestQuery().source());
+        assertTrue(dijkstra.getMaxLatencyNanos() > 0);
+    }
+
+    @Test
+    public void recordsInsertsAndLockWaits() {
+        InsertMetrics inserts = recorder.inserts();
+        assertEquals(2, inserts.getEdgesAdded());
+        assertEquals(3, inserts.getInsertCalls());
+        assertEquals(3, inserts.getLockAcquisitions());
+        assertEquals(0, inserts.getContendedLockAcquisitions());
+    }
+
+    @Test
+    public void measuresAllocationUnlessListenersOptOut() {
+        List<QueryMetrics<? extends Integer>> measured = new ArrayList<>(), skipped = new ArrayList<>();
+        GraphMetricsListener<Integer> measuring = new GraphMetricsListener<Integer>() {
+            @Override
+            public void queryCompleted(QueryMetrics<? extends Integer> query) { measured.add(query); }
+        };
+        GraphMetricsListener<Integer> skipping = new GraphMetricsListener<Integer>() {
+            @Override
+            public void queryCompleted(QueryMetrics<? extends Integer> query) { skipped.add(query); }
+
+            @Override
+            public long allocatedBytes() { return -1; }
+        };
+
+        for (GraphMetricsListener<Integer> listener : Arrays.asList(measuring, skipping)) {
+            Graph<Integer> g = Graph.<Integer>builder().metrics(listener).build();
+            g.addVertex(0);
+            g.addVertex(1);
+            g.addEdge(0, 1, 1);
+            g.getPath(new Dijkstra<>(), 0, 1);
+        }
+
+        assertTrue(measured.get(0).allocatedBytes() >= 0);
+        assertEquals(-1, skipped.get(0).allocatedBytes());
+    }
+
+    @Test
+    public void exposesMBeans() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName graphName = new ObjectName("artemmindrov.graphs:type=Graph,name=\"test\"");
+        ObjectName finderName = new ObjectName("artemmindrov.graphs:type=PathFinder,graph=\"test\",name=\"Dijkstra\"");
+        recorder.registerMBeans("test");
+
+        try {
+            graph.getPath(new Dijkstra<>(), 0, 2);
+            assertEquals(2L, server.getAttribute(graphName, "EdgesAdded"));
+            assertEquals(1L, server.getAttribute(finderName, "Queries"));
+        } finally {
+            recorder.unregisterMBeans();
+        }
+
+        assertFalse(server.isRegistered(graphName));
+        assertFalse(server.isRegistered(finderName));
+    }
+}
@@ -0,0 +1,102 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class AStarTest {
+    private static final int SIDE = 20;
+
+    private <V> List<V> pathVertices(List<Edge<V>> path) {
+        List<V> vertices = path.stream().map(Edge::sink).collect(Collectors.toList());
+        vertices.add(0, path.get(0).source());
+        return vertices;
+    }
+
+    private <V> long pathCost(List<Edge<V>> path) {
+        return path.stream().mapToLong(Edge::weight).sum();
+    }
+
+    private static long manhattan(int from, int to) {
+        return Math.abs(from % SIDE - to % SIDE) + Math.abs(from / SIDE - to / SIDE);
+    }
+
+    @Test
+    public void findsShortestPathsInWeightedGraphs() {
+        Graph<Integer> graph = Graph.<Integer>builder().build();
+        Random random = new Random(17);
+        PathFinder<Integer> aStar = new AStar<>(AStarTest::manhattan), dijkstra = new Dijkstra<>();
+
+        for (int v = 0; v < SIDE * SIDE; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int v = 0; v < SIDE * SIDE; v++) {
+            if (v % SIDE != SIDE - 1) {
+                graph.addEdge(v, v + 1, 1 + random.nextInt(5));
+                graph.addEdge(v + 1, v, 1 + random.nextInt(5));
+            }
+
+            if (v + SIDE < SIDE * SIDE) {
+                graph.addEdge(v, v + SIDE, 1 + random.nextInt(5));
+                graph.addEdge(v + SIDE, v, 1 + random.nextInt(5));
+            }
+        }
+
+        for (int i = 0; i < 100; i++) {
+            int source = random.nextInt(SIDE * SIDE), dest = random.nextInt(SIDE * SIDE);
+            List<Edge<Integer>> path = graph.getPath(aStar, source, dest);
+            assertEquals(pathCost(graph.getPath(dijkstra, source, dest)), pathCost(path));
+        }
+    }
+
+    @Test
+    public void findsShortestPathsInUnweightedGraphs() {
+        Graph<Integer> graph = Graph.<Integer>builder().directed(false).weighted(false).build();
+
+        for (int v = 0; v < SIDE * SIDE; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int v = 0; v < SIDE * SIDE; v++) {
+            if (v % SIDE != SIDE - 1) {
+                graph.addEdge(v, v + 1);
+            }
+
+            if (v + SIDE < SIDE * SIDE) {
+                graph.addEdge(v, v + SIDE);
+            }
+        }
+
+        List<Edge<Integer>> path = graph.getPath(new AStar<>(AStarTest::manhattan), 0, SIDE * SIDE - 1);
+        assertEquals(2 * (SIDE - 1), path.size());
+        assertThat(path.get(0).source(), is(0));
+    }
+
+    @Test
+    public void behavesLikeDijkstraWithZeroHeuristic() {
+        Graph<Integer> graph = Graph.<Integer>builder().build();
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(3, 5, 2);
+        graph.addEdge(4, 6, 2);
+        graph.addEdge(5, 6, 2);
+
+        PathFinder<Integer> aStar = new AStar<>((v, dest) -> 0);
+        assertThat(pathVertices(graph.getPath(aStar, 3, 6)), is(Arrays.asList(3, 4, 6)));
+        assertTrue(graph.getPath(aStar, 6, 3).isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BidirectionalBreadthFirstTest {
+    private Graph<Integer> graph;
+    private PathFinder<Integer> bidirectional;
+
+    private <V> List<V> pathVertices(List<Edge<V>> path) {
+        List<V> vertices = path.stream().map(Edge::sink).collect(Collectors.toList());
+        vertices.add(0, path.get(0).source());
+        return vertices;
+    }
+
+    @Before
+    public void setup() {
+        graph = Graph.<Integer>builder().weighted(false).build();
+        bidirectional = new BidirectionalBreadthFirst<>();
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+    }
+
+    @Test
+    public void findsShortestPathsInDirectedGraphs() {
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 5);
+        graph.addEdge(5, 6);
+        graph.addEdge(4, 6);
+
+        assertThat(pathVertices(bidirectional.getPath(graph, 3, 6)), is(Arrays.asList(3, 4, 6)));
+    }
+
+    @Test
+    public void findsNoPathBetweenIsolatedSubgraphs() {
+        graph.addEdge(3, 4);
+        graph.addEdge(5, 6);
+        assertTrue(bidirectional.getPath(graph, 3, 6).isEmpty());
+    }
+
+    @Test
+    public void matchesBreadthFirstOnRandomGraphs() {
+        Random random = new Random(3);
+        PathFinder<Integer> breadthFirst = new BreadthFirst<>();
+
+        for (int v = 0; v < 300; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int i = 0; i < 700; i++) {
+            graph.addEdge(random.nextInt(300), random.nextInt(300));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            int source = random.nextInt(300), dest = random.nextInt(300);
+            List<Edge<Integer>> path = graph.getPath(bidirectional, source, dest);
+
+            assertEquals(graph.getPath(breadthFirst, source, dest).size(), path.size());
+
+            for (int j = 1; j < path.size(); j++) {
+                assertThat(path.get(j).source(), is(path.get(j - 1).sink()));
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BidirectionalDijkstraTest {
+    private Graph<Integer> graph;
+    private PathFinder<Integer> bidirectional;
+
+    private <V> List<V> pathVertices(List<Edge<V>> path) {
+        List<V> vertices = path.stream().map(Edge::sink).collect(Collectors.toList());
+        vertices.add(0, path.get(0).source());
+        return vertices;
+    }
+
+    private <V> long pathCost(List<Edge<V>> path) {
+        return path.stream().mapToLong(Edge::weight).sum();
+    }
+
+    @Before
+    public void setup() {
+        graph = Graph.<Integer>builder().build();
+        bidirectional = new BidirectionalDijkstra<>();
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+    }
+
+    @Test
+    public void findsShortestPathsInDirectedGraphs() {
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(3, 5, 2);
+        graph.addEdge(4, 6, 2);
+        graph.addEdge(5, 6, 2);
+
+        List<Edge<Integer>> path = bidirectional.getPath(graph, 3, 6);
+        assertEquals(3, pathCost(path));
+        assertThat(pathVertices(path), is(Arrays.asList(3, 4, 6)));
+    }
+
+    @Test
+    public void findsDirectEdges() {
+        graph.addEdge(3, 6, 1);
+        assertThat(pathVertices(bidirectional.getPath(graph, 3, 6)), is(Arrays.asList(3, 6)));
+    }
+
+    @Test
+    public void findsNoPathInReverseDirection() {
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 6, 2);
+        assertTrue(bidirectional.getPath(graph, 6, 3).isEmpty());
+    }
+
+    @Test
+    public void matchesDijkstraOnRandomGraphs() {
+        Random random = new Random(5);
+        PathFinder<Integer> dijkstra = new Dijkstra<>();
+
+        for (int v = 0; v < 200; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int i = 0; i < 600; i++) {
+            graph.addEdge(random.nextInt(200), random.nextInt(200), random.nextInt(20));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            int source = random.nextInt(200), dest = random.nextInt(200);
+            List<Edge<Integer>> expected = graph.getPath(dijkstra, source, dest);
+            List<Edge<Integer>> path = graph.getPath(bidirectional, source, dest);
+
+            assertEquals(expected.isEmpty(), path.isEmpty());
+            assertEquals(pathCost(expected), pathCost(path));
+
+            if (!path.isEmpty()) {
+                assertThat(path.get(0).source(), is(source));
+                assertThat(path.get(path.size() - 1).sink(), is(dest));
+
+                for (int j = 1; j < path.size(); j++) {
+                    assertThat(path.get(j).source(), is(path.get(j - 1).sink()));
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsNegativeEdges() {
+        graph.addEdge(3, 4, -1);
+        graph.addEdge(4, 6, 1);
+        bidirectional.getPath(graph, 3, 6);
+    }
+}
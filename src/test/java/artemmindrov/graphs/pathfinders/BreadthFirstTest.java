@@ -0,0 +1,103 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BreadthFirstTest {
+    private Graph<Integer> graph;
+    private PathFinder<Integer> breadthFirst;
+
+    private <V> List<V> pathVertices(List<Edge<V>> path) {
+        List<V> vertices = path.stream().map(Edge::sink).collect(Collectors.toList());
+        vertices.add(0, path.get(0).source());
+        return vertices;
+    }
+
+    @Before
+    public void setup() {
+        graph = Graph.<Integer>builder().weighted(false).build();
+        breadthFirst = new BreadthFirst<>();
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+    }
+
+    @Test
+    public void findsShortestPathsInDirectedGraphs() {
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 5);
+        graph.addEdge(5, 6);
+        graph.addEdge(4, 6);
+
+        assertThat(pathVertices(breadthFirst.getPath(graph, 3, 6)), is(Arrays.asList(3, 4, 6)));
+        assertThat(pathVertices(graph.getPath(3, 6)), is(Arrays.asList(3, 4, 6)));
+    }
+
+    @Test
+    public void findsNoPathInReverseDirection() {
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 6);
+        assertTrue(breadthFirst.getPath(graph, 6, 3).isEmpty());
+    }
+
+    @Test
+    public void findsNoPathBetweenIsolatedSubgraphs() {
+        graph.addEdge(3, 4);
+        graph.addEdge(5, 6);
+        assertTrue(breadthFirst.getPath(graph, 3, 6).isEmpty());
+    }
+
+    @Test
+    public void findsShortestPathInUndirectedGraphs() {
+        graph = Graph.<Integer>builder().directed(false).weighted(false).build();
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 5);
+        graph.addEdge(5, 6);
+
+        assertThat(pathVertices(breadthFirst.getPath(graph, 6, 3)), is(Arrays.asList(6, 5, 4, 3)));
+    }
+
+    @Test
+    public void matchesDijkstraOnDenseRandomGraphs() {
+        Random random = new Random(11);
+        graph = Graph.<Integer>builder().weighted(false).build();
+        PathFinder<Integer> dijkstra = new Dijkstra<>();
+
+        for (int v = 0; v < 300; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int i = 0; i < 3000; i++) {
+            graph.addEdge(random.nextInt(300), random.nextInt(300));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            int source = random.nextInt(300), dest = random.nextInt(300);
+            List<Edge<Integer>> path = graph.getPath(breadthFirst, source, dest);
+
+            assertEquals(graph.getPath(dijkstra, source, dest).size(), path.size());
+
+            if (!path.isEmpty()) {
+                assertThat(path.get(0).source(), is(source));
+                assertThat(path.get(path.size() - 1).sink(), is(dest));
+            }
+        }
+    }
+}
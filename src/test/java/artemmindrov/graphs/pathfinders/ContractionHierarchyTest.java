@@ -0,0 +1,155 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import artemmindrov.graphs.VertexSerializer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ContractionHierarchyTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Graph<Integer> graph;
+
+    private <V> List<V> pathVertices(List<Edge<V>> path) {
+        List<V> vertices = path.stream().map(Edge::sink).collect(Collectors.toList());
+        vertices.add(0, path.get(0).source());
+        return vertices;
+    }
+
+    private <V> long pathCost(List<Edge<V>> path) {
+        return path.stream().mapToLong(Edge::weight).sum();
+    }
+
+    @Before
+    public void setup() {
+        graph = Graph.<Integer>builder().build();
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+    }
+
+    private void assertMatchesDijkstra(ContractionHierarchy<Integer> hierarchy, Random random, int vertices) {
+        SingleSourcePathFinder<Integer> dijkstra = new Dijkstra<>();
+
+        for (int i = 0; i < 20; i++) {
+            int source = random.nextInt(vertices);
+            ShortestPathTree<Integer> expected = dijkstra.shortestPaths(graph, source);
+
+            for (int v = 0; v < vertices; v++) {
+                List<Edge<Integer>> path = hierarchy.getPath(graph, source, v);
+
+                if (!expected.hasPathTo(v) || v == source) {
+                    assertTrue(path.isEmpty());
+                    continue;
+                }
+
+                assertEquals(expected.distanceTo(v), pathCost(path));
+                List<Integer> pathVertices = pathVertices(path);
+                assertEquals(source, (int) pathVertices.get(0));
+                assertEquals(v, (int) pathVertices.get(pathVertices.size() - 1));
+            }
+        }
+    }
+
+    @Test
+    public void findsShortestPathsInDirectedGraphs() {
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(3, 5, 2);
+        graph.addEdge(4, 6, 2);
+        graph.addEdge(5, 6, 2);
+
+        List<Edge<Integer>> path = ContractionHierarchy.build(graph).getPath(graph, 3, 6);
+        assertEquals(3, pathCost(path));
+        assertThat(pathVertices(path), is(Arrays.asList(3, 4, 6)));
+    }
+
+    @Test
+    public void unpacksShortcuts() {
+        graph.addEdge(3, 6, 10);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(5, 6, 1);
+
+        ContractionHierarchy<Integer> hierarchy = ContractionHierarchy.build(graph);
+        assertThat(pathVertices(hierarchy.getPath(graph, 3, 6)), is(Arrays.asList(3, 4, 5, 6)));
+        assertTrue(hierarchy.getPath(graph, 6, 3).isEmpty());
+    }
+
+    @Test
+    public void matchesDijkstraOnRandomDirectedGraphs() {
+        Random random = new Random(11);
+
+        for (int v = 0; v < 300; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int i = 0; i < 1200; i++) {
+            graph.addEdge(random.nextInt(300), random.nextInt(300), random.nextInt(30));
+        }
+
+        assertMatchesDijkstra(ContractionHierarchy.build(graph, new ForkJoinPool(3)), random, 300);
+    }
+
+    @Test
+    public void matchesDijkstraOnRandomUndirectedGraphs() {
+        Random random = new Random(13);
+        graph = Graph.<Integer>builder().directed(false).build();
+
+        for (int v = 0; v < 300; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int i = 0; i < 600; i++) {
+            graph.addEdge(random.nextInt(300), random.nextInt(300), 1 + random.nextInt(30));
+        }
+
+        assertMatchesDijkstra(ContractionHierarchy.build(graph), random, 300);
+    }
+
+    @Test
+    public void loadsSavedHierarchy() throws IOException {
+        Random random = new Random(17);
+
+        for (int v = 0; v < 100; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int i = 0; i < 400; i++) {
+            graph.addEdge(random.nextInt(100), random.nextInt(100), random.nextInt(30));
+        }
+
+        ContractionHierarchy<Integer> hierarchy = ContractionHierarchy.build(graph);
+        Path file = folder.newFile().toPath();
+        hierarchy.save(file, VertexSerializer.INTEGER);
+        ContractionHierarchy<Integer> loaded = ContractionHierarchy.load(file, VertexSerializer.INTEGER);
+
+        assertEquals(hierarchy.vertexCount(), loaded.vertexCount());
+        assertEquals(hierarchy.arcCount(), loaded.arcCount());
+        assertMatchesDijkstra(loaded, random, 100);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsNegativeEdges() {
+        graph.addEdge(3, 4, -1);
+        graph.addEdge(4, 6, 1);
+        ContractionHierarchy.build(graph);
+    }
+}
@@ -0,0 +1,127 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class DagShortestPathTest {
+    private Graph<Integer> graph;
+    private DagShortestPath<Integer> dag;
+
+    private <V> List<V> pathVertices(List<Edge<V>> path) {
+        List<V> vertices = path.stream().map(Edge::sink).collect(Collectors.toList());
+        vertices.add(0, path.get(0).source());
+        return vertices;
+    }
+
+    private <V> long pathCost(List<Edge<V>> path) {
+        return path.stream().mapToLong(Edge::weight).sum();
+    }
+
+    @Before
+    public void setup() {
+        graph = Graph.<Integer>builder().build();
+        dag = new DagShortestPath<>();
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+    }
+
+    @Test
+    public void findsShortestPathsWithNegativeEdges() {
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(3, 5, 2);
+        graph.addEdge(4, 6, 2);
+        graph.addEdge(5, 6, -2);
+
+        List<Edge<Integer>> path = dag.getPath(graph, 3, 6);
+        assertEquals(0, pathCost(path));
+        assertThat(pathVertices(path), is(Arrays.asList(3, 5, 6)));
+    }
+
+    @Test
+    public void findsLongestPaths() {
+        graph.addEdge(3, 6, 4);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 2);
+        graph.addEdge(5, 6, 2);
+
+        DagShortestPath<Integer> critical = DagShortestPath.longestPaths();
+        assertThat(pathVertices(critical.getPath(graph, 3, 6)), is(Arrays.asList(3, 4, 5, 6)));
+        ShortestPathTree<Integer> tree = critical.shortestPaths(graph, 3);
+        assertEquals(5, tree.distanceTo(6));
+        assertEquals(0, tree.distanceTo(3));
+        assertTrue(critical.getPath(graph, 6, 3).isEmpty());
+    }
+
+    @Test
+    public void findsNoPathInReverseDirection() {
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 6, 2);
+        assertTrue(dag.getPath(graph, 6, 3).isEmpty());
+        assertEquals(ShortestPathTree.UNREACHABLE, dag.shortestPaths(graph, 6).distanceTo(3));
+    }
+
+    @Test
+    public void ignoresCyclesUnreachableFromSource() {
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(5, 6, 1);
+        graph.addEdge(6, 5, 1);
+        assertEquals(1, dag.getPath(graph, 3, 4).size());
+    }
+
+    @Test
+    public void matchesBellmanFordOnRandomDags() {
+        Random random = new Random(29);
+        Graph<Integer> negated = Graph.<Integer>builder().build();
+        SingleSourcePathFinder<Integer> bellmanFord = new BellmanFord<>();
+        SingleSourcePathFinder<Integer> critical = DagShortestPath.longestPaths();
+
+        for (int v = 0; v < 200; v++) {
+            graph.addVertex(v);
+            negated.addVertex(v);
+        }
+
+        for (int i = 0; i < 800; i++) {
+            int u = random.nextInt(199), v = u + 1 + random.nextInt(199 - u);
+            long weight = random.nextInt(40) - 20;
+            graph.addEdge(u, v, weight);
+            negated.addEdge(u, v, -weight);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            int source = random.nextInt(200);
+            ShortestPathTree<Integer> expected = bellmanFord.shortestPaths(graph, source);
+            ShortestPathTree<Integer> tree = dag.shortestPaths(graph, source);
+            ShortestPathTree<Integer> longest = bellmanFord.shortestPaths(negated, source);
+            ShortestPathTree<Integer> criticalTree = critical.shortestPaths(graph, source);
+
+            for (int v = 0; v < 200; v++) {
+                assertEquals(expected.distanceTo(v), tree.distanceTo(v));
+                assertEquals(expected.hasPathTo(v) ? expected.distanceTo(v) : 0, pathCost(dag.getPath(graph, source, v)));
+                assertEquals(longest.hasPathTo(v) ? -longest.distanceTo(v) : ShortestPathTree.UNREACHABLE,
+                        criticalTree.distanceTo(v));
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsCycles() {
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(5, 3, 1);
+        dag.getPath(graph, 3, 6);
+    }
+}
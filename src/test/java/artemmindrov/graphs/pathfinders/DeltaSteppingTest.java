@@ -0,0 +1,110 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class DeltaSteppingTest {
+    private Graph<Integer> graph;
+    private DeltaStepping<Integer> deltaStepping;
+
+    private <V> List<V> pathVertices(List<Edge<V>> path) {
+        List<V> vertices = path.stream().map(Edge::sink).collect(Collectors.toList());
+        vertices.add(0, path.get(0).source());
+        return vertices;
+    }
+
+    private <V> long pathCost(List<Edge<V>> path) {
+        return path.stream().mapToLong(Edge::weight).sum();
+    }
+
+    @Before
+    public void setup() {
+        graph = Graph.<Integer>builder().build();
+        deltaStepping = new DeltaStepping<>(2);
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+    }
+
+    @Test
+    public void findsShortestPathsInDirectedGraphs() {
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(3, 5, 2);
+        graph.addEdge(4, 6, 2);
+        graph.addEdge(5, 6, 2);
+
+        List<Edge<Integer>> path = deltaStepping.getPath(graph, 3, 6);
+        assertEquals(3, pathCost(path));
+        assertThat(pathVertices(path), is(Arrays.asList(3, 4, 6)));
+    }
+
+    @Test
+    public void prefersLightEdgesOverHeavyOnes() {
+        graph.addEdge(3, 6, 10);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(5, 6, 1);
+
+        assertThat(pathVertices(deltaStepping.getPath(graph, 3, 6)), is(Arrays.asList(3, 4, 5, 6)));
+    }
+
+    @Test
+    public void findsNoPathInReverseDirection() {
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 6, 2);
+        assertTrue(deltaStepping.getPath(graph, 6, 3).isEmpty());
+    }
+
+    @Test
+    public void matchesDijkstraOnRandomGraphs() {
+        Random random = new Random(7);
+        SingleSourcePathFinder<Integer> dijkstra = new Dijkstra<>();
+        SingleSourcePathFinder<Integer> pooled = new DeltaStepping<>(5, new ForkJoinPool(3));
+
+        for (int v = 0; v < 300; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int i = 0; i < 1200; i++) {
+            graph.addEdge(random.nextInt(300), random.nextInt(300), random.nextInt(30));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            int source = random.nextInt(300);
+            ShortestPathTree<Integer> expected = dijkstra.shortestPaths(graph, source);
+            ShortestPathTree<Integer> tree = pooled.shortestPaths(graph, source);
+
+            for (int v = 0; v < 300; v++) {
+                assertEquals(expected.distanceTo(v), tree.distanceTo(v));
+                assertEquals(expected.distanceTo(v), pathCost(deltaStepping.getPath(graph, source, v)) +
+                        (expected.hasPathTo(v) ? 0 : ShortestPathTree.UNREACHABLE));
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsNegativeEdges() {
+        graph.addEdge(3, 4, -1);
+        graph.addEdge(4, 6, 1);
+        deltaStepping.getPath(graph, 3, 6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonPositiveDelta() {
+        new DeltaStepping<Integer>(0);
+    }
+}
@@ -0,0 +1,168 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class IncrementalShortestPathsTest {
+    private Graph<Integer> graph;
+
+    @Before
+    public void setup() {
+        graph = Graph.<Integer>builder().build();
+
+        for (int v = 0; v < 5; v++) {
+            graph.addVertex(v);
+        }
+
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(1, 2, 4);
+    }
+
+    @Test
+    public void computesInitialPaths() {
+        try (IncrementalShortestPaths<Integer> paths = graph.trackShortestPaths(0)) {
+            assertEquals(0, paths.distanceTo(0));
+            assertEquals(8, paths.distanceTo(2));
+            assertFalse(paths.hasPathTo(3));
+            assertTrue(paths.pathTo(0).isEmpty());
+        }
+    }
+
+    @Test
+    public void propagatesImprovementsFromAddedEdges() {
+        try (IncrementalShortestPaths<Integer> paths = graph.trackShortestPaths(0)) {
+            graph.addEdge(0, 3, 1);
+            graph.addEdge(3, 1, -1);
+
+            assertEquals(0, paths.distanceTo(1));
+            assertEquals(4, paths.distanceTo(2));
+            assertThat(paths.pathTo(2), contains(Edge.of(0, 3, 1), Edge.of(3, 1, -1), Edge.of(1, 2, 4)));
+
+            graph.addVertex(5);
+            graph.addEdge(2, 5, 1);
+            assertEquals(5, paths.distanceTo(5));
+        }
+    }
+
+    @Test
+    public void coversVerticesExistingBeforeRegistration() {
+        Graph<Integer> path = Graph.<Integer>builder().build();
+
+        for (int v = 0; v < 40; v++) {
+            path.addVertex(v);
+        }
+
+        for (int v = 0; v < 39; v++) {
+            path.addEdge(v, v + 1, 1);
+        }
+
+        try (IncrementalShortestPaths<Integer> paths = path.trackShortestPaths(0)) {
+            assertEquals(path.shortestPaths(0).distanceTo(30), paths.distanceTo(30));
+            assertEquals(39, paths.distanceTo(39));
+
+            path.addEdge(0, 5, 1);
+            assertEquals(26, paths.distanceTo(30));
+        }
+    }
+
+    @Test
+    public void stopsTrackingOnceClosed() {
+        IncrementalShortestPaths<Integer> paths = graph.trackShortestPaths(0);
+        ShortestPathTree<Integer> tree = paths.shortestPaths();
+        paths.close();
+        graph.addEdge(0, 2, 1);
+
+        assertEquals(8, paths.distanceTo(2));
+        assertEquals(8, tree.distanceTo(2));
+    }
+
+    @Test
+    public void tracksBothHalvesOfUndirectedEdges() {
+        Graph<Integer> undirected = Graph.<Integer>builder().directed(false).build();
+        undirected.addVertex(0);
+        undirected.addVertex(1);
+        undirected.addVertex(2);
+
+        try (IncrementalShortestPaths<Integer> paths = undirected.trackShortestPaths(0)) {
+            undirected.addEdge(2, 1, 3);
+            assertFalse(paths.hasPathTo(2));
+            undirected.addEdge(1, 0, 2);
+            assertEquals(5, paths.distanceTo(2));
+        }
+    }
+
+    @Test
+    public void detectsNegativeCycles() {
+        IncrementalShortestPaths<Integer> paths = graph.trackShortestPaths(0);
+        graph.addEdge(2, 1, -5);
+
+        try {
+            paths.distanceTo(2);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("Negative weight cycle detected", e.getMessage());
+        }
+    }
+
+    @Test
+    public void matchesRecomputationUnderConcurrentInserts() throws Exception {
+        final int vertices = 200, threads = 4, inserts = 500;
+
+        for (int v = 5; v < vertices; v++) {
+            graph.addVertex(v);
+        }
+
+        IncrementalShortestPaths<Integer> paths = graph.trackShortestPaths(0);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Callable<Void>> tasks = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            final long seed = t;
+
+            tasks.add(() -> {
+                Random random = new Random(seed);
+
+                for (int i = 0; i < inserts; i++) {
+                    graph.addEdge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(50));
+                }
+
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        ShortestPathTree<Integer> expected = graph.shortestPaths(0);
+
+        for (int v = 0; v < vertices; v++) {
+            assertEquals(expected.distanceTo(v), paths.distanceTo(v));
+            assertEquals(expected.distanceTo(v), paths.hasPathTo(v) ?
+                    paths.pathTo(v).stream().mapToLong(Edge::weight).sum() : ShortestPathTree.UNREACHABLE);
+        }
+
+        paths.close();
+    }
+}
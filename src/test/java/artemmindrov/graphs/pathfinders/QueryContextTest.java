@@ -0,0 +1,76 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Graph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class QueryContextTest {
+    private Graph<Integer> graph;
+
+    @Before
+    public void setup() {
+        Random random = new Random(31);
+        graph = Graph.<Integer>builder().build();
+
+        for (int v = 0; v < 2000; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int i = 0; i < 10000; i++) {
+            graph.addEdge(random.nextInt(2000), random.nextInt(2000), random.nextInt(100));
+        }
+    }
+
+    private QueryStatus abort(PathFinder<Integer> pf, QueryStats stats) {
+        try {
+            pf.getPath(graph, 0, 1999, stats);
+        } catch (QueryAbortedException e) {
+            return e.status();
+        }
+
+        fail("Query should have been aborted");
+        return null;
+    }
+
+    @Test
+    public void enforcesRelaxationBudgetExactly() {
+        QueryStats stats = new QueryStats(QueryContext.builder().maxRelaxations(100).build());
+        assertEquals(QueryStatus.BUDGET_EXCEEDED, abort(new Spfa<>(), stats));
+        assertEquals(101, stats.relaxedEdges());
+    }
+
+    @Test
+    public void stopsCancelledQueries() {
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        QueryStats stats = new QueryStats(QueryContext.builder().cancellation(token).build());
+        assertEquals(QueryStatus.CANCELLED, abort(new BellmanFord<>(), stats));
+        assertTrue(stats.settledVertices() + stats.relaxedEdges() <= QueryContext.CHECK_INTERVAL);
+    }
+
+    @Test
+    public void stopsQueriesPastTheirTimeout() throws InterruptedException {
+        QueryStats stats = new QueryStats(QueryContext.builder().timeout(1, TimeUnit.NANOSECONDS).build());
+        Thread.sleep(1);
+        assertEquals(QueryStatus.TIMED_OUT, abort(new BellmanFord<>(), stats));
+    }
+
+    @Test
+    public void doesNotLimitQueriesByDefault() {
+        QueryStats stats = new QueryStats();
+        new BellmanFord<Integer>().getPath(graph, 0, 1999, stats);
+        assertTrue(stats.relaxedEdges() > QueryContext.CHECK_INTERVAL);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonPositiveTimeouts() {
+        QueryContext.builder().timeout(0, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,112 @@
+package artemmindrov.graphs.pathfinders;
+
+import artemmindrov.graphs.Edge;
+import artemmindrov.graphs.Graph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ShortestPathTreeTest {
+    private Graph<Integer> graph;
+
+    private <V> long pathCost(List<Edge<V>> path) {
+        return path.stream().mapToLong(Edge::weight).sum();
+    }
+
+    @Before
+    public void setup() {
+        graph = Graph.<Integer>builder().build();
+        graph.addVertex(3);
+        graph.addVertex(4);
+        graph.addVertex(5);
+        graph.addVertex(6);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(3, 5, 2);
+        graph.addEdge(4, 6, 2);
+        graph.addEdge(5, 6, 2);
+    }
+
+    @Test
+    public void containsPathsToAllReachableVertices() {
+        ShortestPathTree<Integer> tree = graph.shortestPaths(3);
+
+        assertEquals(Integer.valueOf(3), tree.source());
+        assertEquals(0, tree.distanceTo(3));
+        assertEquals(1, tree.distanceTo(4));
+        assertEquals(2, tree.distanceTo(5));
+        assertEquals(3, tree.distanceTo(6));
+        assertThat(tree.pathTo(6), contains(Edge.of(3, 4, 1), Edge.of(4, 6, 2)));
+        assertTrue(tree.pathTo(3).isEmpty());
+    }
+
+    @Test
+    public void reportsUnreachableVertices() {
+        graph.addVertex(7);
+        ShortestPathTree<Integer> tree = graph.shortestPaths(4);
+        graph.addVertex(8);
+
+        assertTrue(tree.hasPathTo(6));
+        assertFalse(tree.hasPathTo(3));
+        assertFalse(tree.hasPathTo(7));
+        assertFalse(tree.hasPathTo(8));
+        assertFalse(tree.hasPathTo(9));
+        assertEquals(ShortestPathTree.UNREACHABLE, tree.distanceTo(7));
+        assertTrue(tree.pathTo(7).isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void failsForNonExistentSources() {
+        graph.shortestPaths(9);
+    }
+
+    @Test
+    public void matchesPointToPointQueries() {
+        Random random = new Random(23);
+
+        for (int v = 0; v < 100; v++) {
+            graph.addVertex(v);
+        }
+
+        for (int i = 0; i < 400; i++) {
+            graph.addEdge(random.nextInt(100), random.nextInt(100), random.nextInt(10));
+        }
+
+        for (SingleSourcePathFinder<Integer> pf : Arrays.asList(
+                new Dijkstra<Integer>(), new BellmanFord<Integer>(), new Spfa<Integer>())) {
+            ShortestPathTree<Integer> tree = graph.shortestPaths(pf, 0);
+
+            for (int v = 1; v < 100; v++) {
+                List<Edge<Integer>> path = graph.getPath(pf, 0, v);
+                assertEquals(path.isEmpty(), !tree.hasPathTo(v));
+                assertEquals(pathCost(path), pathCost(tree.pathTo(v)));
+
+                if (tree.hasPathTo(v)) {
+                    assertEquals(pathCost(path), tree.distanceTo(v));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void countsEdgesForBreadthFirstTrees() {
+        Graph<Integer> unweighted = Graph.<Integer>builder().weighted(false).build();
+        unweighted.addVertex(3);
+        unweighted.addVertex(4);
+        unweighted.addVertex(5);
+        unweighted.addEdge(3, 4);
+        unweighted.addEdge(4, 5);
+
+        ShortestPathTree<Integer> tree = unweighted.shortestPaths(3);
+        assertEquals(2, tree.distanceTo(5));
+        assertEquals(2, tree.pathTo(5).size());
+    }
+}